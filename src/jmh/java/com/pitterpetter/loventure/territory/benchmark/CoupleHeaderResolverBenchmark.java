@@ -0,0 +1,83 @@
+package com.pitterpetter.loventure.territory.benchmark;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.pitterpetter.loventure.territory.util.CoupleHeaderResolver;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Authorization 헤더 → coupleId (CoupleHeaderResolver.resolveCoupleId)
+ * - sameToken: 같은 토큰 반복 (위치 전송 루프와 같은 패턴, 검증 캐시 적중)
+ * - distinctTokens: 매번 다른 토큰 (캐시 미스, 서명 검증 + 클레임 파싱)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoupleHeaderResolverBenchmark {
+
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private CoupleHeaderResolver cachedResolver;
+    private CoupleHeaderResolver uncachedResolver;
+    private MockHttpServletRequest sameTokenRequest;
+    private MockHttpServletRequest[] distinctRequests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        String secret = Base64.getEncoder().encodeToString(key.getEncoded());
+
+        cachedResolver = new CoupleHeaderResolver(secret);
+        uncachedResolver = new CoupleHeaderResolver(secret, 1, Duration.ofMinutes(10));
+
+        sameTokenRequest = request(token(key, "couple-1"));
+        distinctRequests = new MockHttpServletRequest[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctRequests[i] = request(token(key, "couple-" + i));
+        }
+    }
+
+    @Benchmark
+    public String sameToken() {
+        return cachedResolver.resolveCoupleId(sameTokenRequest);
+    }
+
+    @Benchmark
+    public String distinctTokens() {
+        MockHttpServletRequest request = distinctRequests[next];
+        next = (next + 1) % DISTINCT_TOKENS;
+        return uncachedResolver.resolveCoupleId(request);
+    }
+
+    private static String token(SecretKey key, String coupleId) {
+        return Jwts.builder()
+                .claim("coupleId", coupleId)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pitterpetter.loventure.territory.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pitterpetter.loventure.territory.application.RegionFeatureCache;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.spatial.SimplificationLevel;
+import com.pitterpetter.loventure.territory.util.GeoJsonUtils;
+
+/**
+ * 해금 지역 GeoJSON 응답 생성 (해금 수별)
+ * - featureCollectionJackson: GeoJsonUtils.toFeatureCollection + Jackson 직렬화
+ * - preSerialized: RegionFeatureCache 조각 이어 붙이기 (원본 / LOW 단순화 단계)
+ * 출력은 바이트 수만 세는 OutputStream으로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeoJsonBenchmark {
+
+    @Param({"1", "10", "30", "67"})
+    public int unlockCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<Region> unlocked;
+    private List<String> unlockedIds;
+    private RegionFeatureCache featureCache;
+
+    @Setup
+    public void setUp() {
+        List<Region> regions = RegionFixtures.regions();
+        unlocked = regions.subList(0, Math.min(unlockCount, regions.size()));
+        unlockedIds = unlocked.stream().map(Region::getId).toList();
+
+        featureCache = new RegionFeatureCache(RegionFixtures.snapshotStore(regions));
+        featureCache.rebuild();
+    }
+
+    @Benchmark
+    public long featureCollectionJackson() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectMapper.writeValue(out, GeoJsonUtils.toFeatureCollection(unlocked));
+        return out.count;
+    }
+
+    @Benchmark
+    public long preSerialized() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        featureCache.featureCollection(unlockedIds).writeTo(out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long preSerializedLow() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        featureCache.featureCollection(unlockedIds, SimplificationLevel.LOW).writeTo(out);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
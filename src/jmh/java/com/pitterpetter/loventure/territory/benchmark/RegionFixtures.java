@@ -0,0 +1,128 @@
+package com.pitterpetter.loventure.territory.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionGeometry;
+import com.pitterpetter.loventure.territory.domain.region.RegionOverview;
+import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import com.pitterpetter.loventure.territory.spatial.RegionSnapshotStore;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+import com.pitterpetter.loventure.territory.util.GeoJsonUtils;
+
+/**
+ * 벤치마크 공용 데이터
+ * - 실제 서비스가 적재하는 sgg_seoul_gyeonggi.json을 PostGIS 없이 Region 목록으로 변환
+ */
+final class RegionFixtures {
+
+    private static final String RESOURCE = "/sgg_seoul_gyeonggi.json";
+
+    private static List<Region> regions;
+
+    private RegionFixtures() {
+    }
+
+    static synchronized List<Region> regions() {
+        if (regions == null) {
+            regions = List.copyOf(load());
+        }
+        return regions;
+    }
+
+    /**
+     * 전체 Region 범위 안의 임의 좌표 (seed 고정, [lon, lat] 쌍)
+     */
+    static double[][] randomPoints(Envelope bounds, int count, long seed) {
+        Random random = new Random(seed);
+        double[][] points = new double[count][];
+        for (int i = 0; i < count; i++) {
+            points[i] = new double[] {
+                    bounds.getMinX() + random.nextDouble() * bounds.getWidth(),
+                    bounds.getMinY() + random.nextDouble() * bounds.getHeight()
+            };
+        }
+        return points;
+    }
+
+    /**
+     * findAll(), findAllWithGeometry(), findAllOverviews()만 고정 데이터로 응답하는 RegionRepository (Spring/DB 없이 컴포넌트 생성용)
+     */
+    static RegionRepository repository(List<Region> regions) {
+        List<RegionOverview> overviews = regions.stream()
+                .map(RegionFixtures::overview)
+                .sorted(Comparator.comparing(RegionOverview::id))
+                .toList();
+        return (RegionRepository) Proxy.newProxyInstance(
+                RegionRepository.class.getClassLoader(),
+                new Class<?>[] {RegionRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0
+                            || method.getName().equals("findAllWithGeometry")) {
+                        return regions;
+                    }
+                    if (method.getName().equals("findAllOverviews")) {
+                        return overviews;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * RegionBulkLoader가 적재 시 계산하는 값을 JTS로 대신 계산 (구면 면적은 PostGIS 없이 생략)
+     */
+    private static RegionOverview overview(Region region) {
+        Point centroid = region.getGeom().getCentroid();
+        Envelope envelope = region.getGeom().getEnvelopeInternal();
+        return new RegionOverview(region.getId(), region.getSigCd(), region.getSi_do(), region.getGu_si(),
+                centroid.getY(), centroid.getX(),
+                envelope.getMinX(), envelope.getMinY(), envelope.getMaxX(), envelope.getMaxY(), null);
+    }
+
+    /**
+     * 고정 데이터로 구성하는 RegionSnapshotStore (스냅샷 파일 읽기/쓰기 없음)
+     */
+    static RegionSnapshotStore snapshotStore(List<Region> regions) {
+        return new RegionSnapshotStore(repository(regions), false, null, true, 0.01);
+    }
+
+    private static List<Region> load() {
+        GeometryFactory factory = RegionSpatialIndex.geometryFactory();
+        try (InputStream in = RegionFixtures.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " not found on classpath");
+            }
+            JsonNode root = new ObjectMapper().readTree(in);
+            List<Region> loaded = new ArrayList<>();
+            for (JsonNode feature : root.path("features")) {
+                JsonNode properties = feature.path("properties");
+                String sigCd = properties.path("sig_cd").asText();
+                MultiPolygon geom = GeoJsonUtils.toMultiPolygon(feature.path("geometry"), factory);
+                loaded.add(Region.builder()
+                        .id(sigCd)
+                        .sigCd(sigCd)
+                        .gu_si(properties.path("name_ko").asText())
+                        .si_do(properties.path("parent").asText())
+                        .geometry(new RegionGeometry(sigCd, geom))
+                        .build());
+            }
+            return loaded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
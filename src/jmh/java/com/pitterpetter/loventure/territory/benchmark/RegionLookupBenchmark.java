@@ -0,0 +1,104 @@
+package com.pitterpetter.loventure.territory.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.spatial.RegionEntry;
+import com.pitterpetter.loventure.territory.spatial.RegionGridCache;
+import com.pitterpetter.loventure.territory.spatial.RegionGridStats;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+
+/**
+ * 좌표 → Region 판별 (point-in-polygon)
+ * - naive: 모든 Region geometry에 contains
+ * - prepared: 모든 Region PreparedGeometry에 contains
+ * - indexed: RegionSpatialIndex (STRtree + PreparedGeometry)
+ * - grid: RegionGridCache (격자 셀 선판정)
+ * 연산 1회 = 좌표 POINTS개 판별
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RegionLookupBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private List<Region> regions;
+    private List<PreparedGeometry> prepared;
+    private RegionSpatialIndex index;
+    private RegionGridCache grid;
+    private Point[] points;
+    private double[][] coordinates;
+
+    @Setup
+    public void setUp() {
+        regions = RegionFixtures.regions();
+        prepared = regions.stream().map(region -> PreparedGeometryFactory.prepare(region.getGeom())).toList();
+        index = RegionSpatialIndex.of(regions);
+        grid = RegionGridCache.build(index, 0.01, new RegionGridStats());
+
+        coordinates = RegionFixtures.randomPoints(index.bounds(), POINTS, 42L);
+        points = new Point[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = RegionSpatialIndex.createPoint(coordinates[i][0], coordinates[i][1]);
+        }
+    }
+
+    @Benchmark
+    public void naive(Blackhole blackhole) {
+        for (Point point : points) {
+            Region found = null;
+            for (Region region : regions) {
+                if (region.getGeom().contains(point)) {
+                    found = region;
+                    break;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void prepared(Blackhole blackhole) {
+        for (Point point : points) {
+            int found = -1;
+            for (int i = 0; i < prepared.size(); i++) {
+                if (prepared.get(i).contains(point)) {
+                    found = i;
+                    break;
+                }
+            }
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void indexed(Blackhole blackhole) {
+        for (double[] coordinate : coordinates) {
+            Optional<RegionEntry> found = index.locate(coordinate[0], coordinate[1]);
+            blackhole.consume(found);
+        }
+    }
+
+    @Benchmark
+    public void grid(Blackhole blackhole) {
+        for (double[] coordinate : coordinates) {
+            Optional<RegionEntry> found = grid.locate(coordinate[0], coordinate[1]);
+            blackhole.consume(found);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.pitterpetter.loventure.territory.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pitterpetter.loventure.territory.application.RegionCatalog;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.dto.CitySummary;
+import com.pitterpetter.loventure.territory.dto.DistrictSummary;
+
+/**
+ * 시/도별 해금 현황(getUnlockedRegions) 구성
+ * - groupingWithCentroids: 요청마다 전체 Region을 시/도별로 묶고 중심 좌표를 계산하던 방식
+ * - catalogOverlay: RegionCatalog에 미리 계산한 목록에 해금 집합만 덧씌우는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UnlockedOverviewBenchmark {
+
+    @Param({"0", "10", "67"})
+    public int unlockCount;
+
+    private List<Region> regions;
+    private Set<String> unlockedIds;
+    private RegionCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        regions = RegionFixtures.regions();
+        unlockedIds = regions.stream()
+                .limit(unlockCount)
+                .map(Region::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        catalog = new RegionCatalog(RegionFixtures.repository(regions));
+        catalog.rebuild();
+    }
+
+    @Benchmark
+    public List<CitySummary> groupingWithCentroids() {
+        Map<String, List<Region>> grouped = regions.stream()
+                .collect(Collectors.groupingBy(Region::getSi_do));
+
+        return grouped.entrySet().stream()
+                .map(entry -> {
+                    List<DistrictSummary> districts = entry.getValue().stream()
+                            .map(this::toDistrictSummary)
+                            .collect(Collectors.toList());
+                    long unlocked = districts.stream().filter(d -> !d.isLocked()).count();
+                    return CitySummary.builder()
+                            .cityName(entry.getKey())
+                            .totalDistricts(districts.size())
+                            .lockedDistricts((int) (districts.size() - unlocked))
+                            .unlockedDistricts((int) unlocked)
+                            .districts(districts)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<CitySummary> catalogOverlay() {
+        return catalog.overlay(unlockedIds);
+    }
+
+    private DistrictSummary toDistrictSummary(Region region) {
+        Point centroid = region.getGeom().getCentroid();
+        return DistrictSummary.builder()
+                .id(region.getId())
+                .name(region.getGu_si())
+                .isLocked(!unlockedIds.contains(region.getId()))
+                .description((region.getSi_do() + " " + region.getGu_si()).trim())
+                .lat(centroid.getY())
+                .lng(centroid.getX())
+                .build();
+    }
+}
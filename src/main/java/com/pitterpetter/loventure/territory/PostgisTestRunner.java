@@ -1,80 +1,74 @@
 package com.pitterpetter.loventure.territory;
 
-import lombok.RequiredArgsConstructor;
+import com.pitterpetter.loventure.territory.domain.region.RegionBulkLoader;
+import com.pitterpetter.loventure.territory.domain.region.RegionBulkLoader.LoadResult;
+import com.pitterpetter.loventure.territory.domain.region.RegionDataLoadedEvent;
+import com.pitterpetter.loventure.territory.spatial.RegionSnapshotStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 부팅 시 지역 GeoJSON 적재
+ * - RegionBulkLoader로 스트리밍 + 병렬 변환 + COPY 적재 (원본 해시가 같으면 생략)
+ * - 적재 후 원본 해시 기준으로 RegionSnapshot 준비 (같은 원본이면 스냅샷 파일을 메모리 매핑)
+ * - 적재 실패나 파일 부재 시에도 기존 region 데이터로 인메모리 구조를 구축 (스냅샷 파일은 사용하지 않음)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class PostgisTestRunner implements CommandLineRunner {
 
-    private final JdbcTemplate jdbcTemplate;
+    private final RegionBulkLoader regionBulkLoader;
+    private final RegionSnapshotStore regionSnapshotStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Resource source;
+
+    public PostgisTestRunner(RegionBulkLoader regionBulkLoader,
+                             RegionSnapshotStore regionSnapshotStore,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${territory.region.source:file:src/main/resources/sgg_seoul_gyeonggi.json}") Resource source) {
+        this.regionBulkLoader = regionBulkLoader;
+        this.regionSnapshotStore = regionSnapshotStore;
+        this.eventPublisher = eventPublisher;
+        this.source = source;
+    }
 
     @Override
-    public void run(String... args) throws Exception {
-        // JSON 파일 경로 (resources 폴더에 위치)
-        Path filePath = Path.of("src/main/resources/sgg_seoul_gyeonggi.json");
-        if (!Files.exists(filePath)) {
-            System.out.println("⚠️ 지역 JSON 파일을 찾을 수 없습니다: " + filePath.toAbsolutePath());
-            return;
+    public void run(String... args) {
+        String sourceHash = null;
+        if (!source.exists()) {
+            log.warn("⚠️ 지역 JSON 파일을 찾을 수 없습니다: {}", source.getDescription());
+        } else {
+            sourceHash = load();
         }
+        regionSnapshotStore.prepare(sourceHash);
 
-        // JSON 파일 내용 읽기
-        String json = Files.readString(filePath);
-
-        // region 테이블 생성 (없으면)
-        jdbcTemplate.execute("""
-            CREATE TABLE IF NOT EXISTS region (
-                id VARCHAR(255) PRIMARY KEY,
-                sig_cd VARCHAR(10) UNIQUE,
-                si_do VARCHAR(30),
-                gu_si VARCHAR(30),
-                geom geometry(MultiPolygon, 4326)
-            );
-        """);
-
-        // PostGIS 확장 활성화
-        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS postgis;");
-
-        // 실제 GeoJSON → region 삽입
-        String sql = """
-            WITH fc AS (
-              SELECT ?::jsonb AS j
-            ),
-            features AS (
-              SELECT
-                COALESCE(
-                  f->'properties'->>'sig_cd',
-                  f->'properties'->>'SIG_CD'
-                ) AS sig_cd,
-                COALESCE(
-                  f->'properties'->>'name_ko',
-                  f->'properties'->>'SIG_KOR_NM'
-                ) AS gu_si,
-                COALESCE(
-                  f->'properties'->>'parent',
-                  f->'properties'->>'CTP_KOR_NM'
-                ) AS si_do,
-                ST_SetSRID(
-                  ST_GeomFromGeoJSON(f->>'geometry'),
-                  4326
-                )::geometry(MultiPolygon,4326) AS geom
-              FROM fc, jsonb_array_elements(fc.j->'features') AS f
-            )
-            INSERT INTO region (id, sig_cd, si_do, gu_si, geom)
-            SELECT sig_cd, sig_cd, si_do, gu_si, ST_MakeValid(ST_Multi(geom))
-            FROM features
-            ON CONFLICT (sig_cd) DO NOTHING;
-        """;
-
-        jdbcTemplate.update(sql, json);
+        // 인메모리 지역 구조(공간 인덱스 등) 구축 트리거
+        eventPublisher.publishEvent(new RegionDataLoadedEvent());
+    }
 
-        // 검증 로그
-        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM region", Integer.class);
-        System.out.println("✅ 지역 데이터 로드 완료 (" + count + "개 행정구역)");
+    /**
+     * @return 적재된 원본 해시 (적재 실패 시 null)
+     */
+    private String load() {
+        long startedAt = System.nanoTime();
+        try {
+            LoadResult result = regionBulkLoader.load(source);
+            if (result.skipped()) {
+                log.info("✅ 지역 데이터 변경 없음, 적재 생략 (sha256={})", result.contentHash());
+            } else {
+                log.info("✅ 지역 데이터 로드 완료 ({}개 행정구역, {}ms)",
+                        result.featureCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+            return result.contentHash();
+        } catch (Exception e) {
+            log.error("❌ 지역 데이터 적재 실패, 기존 region 데이터로 진행합니다: {}", e.getMessage(), e);
+            return null;
+        }
     }
 }
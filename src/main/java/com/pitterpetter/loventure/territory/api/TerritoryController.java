@@ -1,6 +1,8 @@
 package com.pitterpetter.loventure.territory.api;
 
 import com.pitterpetter.loventure.territory.application.TerritoryService;
+import com.pitterpetter.loventure.territory.dto.BatchLookupRequest;
+import com.pitterpetter.loventure.territory.dto.BatchLookupResponse;
 import com.pitterpetter.loventure.territory.dto.CheckResponse;
 import com.pitterpetter.loventure.territory.dto.LookupResponse;
 import com.pitterpetter.loventure.territory.exception.ApiException;
@@ -8,10 +10,17 @@ import com.pitterpetter.loventure.territory.exception.ErrorCode;
 import com.pitterpetter.loventure.territory.util.CoupleHeaderResolver;
 import com.pitterpetter.loventure.territory.util.ValidationUtils;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,6 +28,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TerritoryController {
 
+    // 바이너리 일괄 조회 본문 최대 크기 (좌표당 float32 2개)
+    private static final int MAX_PACKED_BYTES = BatchLookupRequest.MAX_POINTS * 2 * Float.BYTES;
+
     private final TerritoryService territoryService;
     private final CoupleHeaderResolver coupleHeaderResolver; // ✅ Bean 주입
 
@@ -63,6 +75,70 @@ public class TerritoryController {
         return ResponseEntity.ok(territoryService.lookup(lon, lat));
     }
 
+    /**
+     * ✅ 좌표 일괄 행정구역 조회 API (궤적 업로드용)
+     * POST /api/regions/lookup/batch
+     * { "points": [[127.0, 37.5], [127.1, 37.6]] }
+     *
+     * - 커플 인증 불필요, 결과는 요청 좌표 순서와 동일
+     * - 좌표 수는 BatchLookupRequest.MAX_POINTS까지 (@Size 검증, 좌표 배열 할당 전에 거절)
+     */
+    @PostMapping(value = "/lookup/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchLookupResponse> lookupBatch(@Valid @RequestBody BatchLookupRequest request) {
+        List<double[]> points = request.getPoints();
+        if (points == null || points.isEmpty()) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "points가 비어 있습니다.");
+        }
+
+        double[] lons = new double[points.size()];
+        double[] lats = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            double[] point = points.get(i);
+            if (point == null || point.length != 2) {
+                throw new ApiException(ErrorCode.INVALID_REQUEST, "points[" + i + "]는 [lon, lat] 형식이어야 합니다.");
+            }
+            lons[i] = point[0];
+            lats[i] = point[1];
+        }
+        return ResponseEntity.ok(territoryService.lookupBatch(lons, lats));
+    }
+
+    /**
+     * ✅ 좌표 일괄 행정구역 조회 API (바이너리)
+     * POST /api/regions/lookup/batch (Content-Type: application/octet-stream)
+     *
+     * - little-endian float32 [lon, lat, lon, lat, ...] 배열
+     * - 본문을 읽기 전에 Content-Length로 크기를 확인하고, 길이를 모르는(chunked) 요청도 최대 크기 + 1바이트까지만 읽음
+     */
+    @PostMapping(value = "/lookup/batch", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<BatchLookupResponse> lookupBatchPacked(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_PACKED_BYTES) {
+            throw tooManyPoints();
+        }
+        byte[] body = request.getInputStream().readNBytes(MAX_PACKED_BYTES + 1);
+        if (body.length > MAX_PACKED_BYTES) {
+            throw tooManyPoints();
+        }
+        if (body.length == 0 || body.length % (2 * Float.BYTES) != 0) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "float32 [lon, lat] 쌍 배열이어야 합니다.");
+        }
+
+        FloatBuffer floats = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        int count = floats.remaining() / 2;
+        double[] lons = new double[count];
+        double[] lats = new double[count];
+        for (int i = 0; i < count; i++) {
+            lons[i] = floats.get();
+            lats[i] = floats.get();
+        }
+        return ResponseEntity.ok(territoryService.lookupBatch(lons, lats));
+    }
+
+    private static ApiException tooManyPoints() {
+        return new ApiException(ErrorCode.INVALID_REQUEST,
+                "한 번에 조회할 수 있는 좌표는 최대 " + BatchLookupRequest.MAX_POINTS + "개입니다.");
+    }
+
     /**
      * ✅ JWT에서 추출된 coupleId 상태 확인용 (테스트 및 디버그용)
      * GET /api/regions/status
@@ -2,13 +2,17 @@ package com.pitterpetter.loventure.territory.api;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.pitterpetter.loventure.territory.application.UnlockService;
 import com.pitterpetter.loventure.territory.dto.UnlockListResponse;
@@ -17,7 +21,9 @@ import com.pitterpetter.loventure.territory.dto.UnlockResponse;
 import com.pitterpetter.loventure.territory.dto.UnlockedOverviewResponse;
 import com.pitterpetter.loventure.territory.exception.ApiException;
 import com.pitterpetter.loventure.territory.exception.ErrorCode;
+import com.pitterpetter.loventure.territory.spatial.SimplificationLevel;
 import com.pitterpetter.loventure.territory.util.CoupleHeaderResolver;
+import com.pitterpetter.loventure.territory.util.GeoJsonFragments;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -29,6 +35,7 @@ import lombok.extern.slf4j.Slf4j;
  * - 초기 해금(init): Auth 서버 검증 포함
  * - 티켓 해금(reward): Redis 검증 포함
  * - 해금 조회(search)
+ * - 해금 지역 벡터 타일(tiles)
  */
 @Slf4j
 @RestController
@@ -36,19 +43,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class UnlockController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final MediaType MVT_MEDIA_TYPE = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
     private final UnlockService unlockService;
     private final CoupleHeaderResolver coupleHeaderResolver;
 
     // ========================================================================
     // ✅ [1] 초기 해금 (Init Unlock)
-    // 프론트 → Territory → Auth 검증 → OK 시 해금
+    // 프론트 → Territory → Auth 검증 → 티켓 차감 → OK 시 해금
     // ========================================================================
     @PostMapping("/unlock/init")
     public ResponseEntity<UnlockListResponse> initUnlock(
             @Valid @RequestBody UnlockRequest request,
             HttpServletRequest httpRequest
     ) {
-        log.info("🔓 [Init Unlock] 요청 수신: {}", request);
+        log.debug("🔓 [Init Unlock] 요청 수신: {}", request);
 
         // ① JWT에서 coupleId 추출
         String coupleIdStr = coupleHeaderResolver.resolveCoupleId(httpRequest);
@@ -57,22 +67,8 @@ public class UnlockController {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "coupleId 헤더가 비어 있습니다.");
         }
 
-        // ② Auth 검증
-        boolean verified = unlockService.verifyAuthToken(coupleId, httpRequest);
-        if (!verified) {
-            log.warn("❌ [Init Unlock] Auth 검증 실패 (coupleId={})", coupleId);
-            throw new ApiException(ErrorCode.AUTH_TOKEN_INVALID, "Auth 서버 검증 실패");
-        }
-
-        // ③ 티켓 차감 및 Rock 완료 (init unlock용)
-        boolean ticketConsumed = unlockService.consumeTicketFromAuthService(coupleId, httpRequest);
-        if (!ticketConsumed) {
-            log.warn("❌ [Init Unlock] 티켓 차감 실패 - 티켓 부족 (coupleId={})", coupleId);
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "티켓이 부족합니다");
-        }
-
-        // ④ 실제 지역 해금 수행
-        List<UnlockResponse> results = unlockService.unlockMultipleRegions(coupleId, request.getRegionNames());
+        // ② 지역명 변환 → Auth 검증 → 티켓 차감 → 지역 해금 (순서대로, 잘못된 지역명은 Auth 호출 전에 거절)
+        List<UnlockResponse> results = unlockService.initUnlock(coupleId, request.getRegionNames(), httpRequest);
         log.info("✅ [Init Unlock] 해금 완료 (count={}, coupleId={})", results.size(), coupleId);
 
         return ResponseEntity.ok(
@@ -94,7 +90,7 @@ public class UnlockController {
             @Valid @RequestBody UnlockRequest request,
             HttpServletRequest httpRequest
     ) {
-        log.info("🎟️ [Reward Unlock] 요청 수신: {}", request);
+        log.debug("🎟️ [Reward Unlock] 요청 수신: {}", request);
 
         // ① JWT에서 coupleId 추출
         String coupleIdStr = coupleHeaderResolver.resolveCoupleId(httpRequest);
@@ -103,27 +99,20 @@ public class UnlockController {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "coupleId 헤더가 비어 있습니다.");
         }
 
-        // ② Gateway에서 전달받은 티켓 정보 처리
+        // ② Gateway에서 전달받은 티켓 수 (Redis에 값이 없으면 초기값, 이전 값보다 늘어난 만큼만 반영)
+        Integer gatewayTicketCount = null;
         String ticketCountHeader = httpRequest.getHeader("X-Ticket-Count");
         if (ticketCountHeader != null) {
             try {
-                int ticketCount = Integer.parseInt(ticketCountHeader);
-                unlockService.setTicketCountFromGateway(coupleId, ticketCount);
-                log.info("🎟️ Gateway에서 전달받은 티켓 정보 저장 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
+                gatewayTicketCount = Integer.parseInt(ticketCountHeader.trim());
             } catch (NumberFormatException e) {
                 log.warn("⚠️ 잘못된 티켓 개수 형식 - coupleId: {}, ticketCount: {}", coupleId, ticketCountHeader);
             }
         }
 
-        // ③ Redis 티켓 검증
-        boolean validTicket = unlockService.verifyRedisTicket(coupleId);
-        if (!validTicket) {
-            log.warn("❌ [Reward Unlock] 티켓 부족 (coupleId={})", coupleId);
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "티켓 잔여 수량 부족");
-        }
-
-        // ③ 해금 처리
-        List<UnlockResponse> results = unlockService.unlockMultipleRegions(coupleId, request.getRegionNames());
+        // ③ Redis 티켓 차감(원자적) + 해금 처리
+        List<UnlockResponse> results = unlockService.rewardUnlock(coupleId, request.getRegionNames(),
+                httpRequest.getHeader(IDEMPOTENCY_KEY_HEADER), gatewayTicketCount);
         log.info("✅ [Reward Unlock] 해금 완료 (count={}, coupleId={})", results.size(), coupleId);
 
         return ResponseEntity.ok(
@@ -141,25 +130,60 @@ public class UnlockController {
     @GetMapping("/search")
     public ResponseEntity<?> unlockedRegions(
             HttpServletRequest httpRequest,
-            @RequestParam(value = "format", defaultValue = "list") String format
+            @RequestParam(value = "format", defaultValue = "list") String format,
+            @RequestParam(value = "zoom", required = false) Integer zoom,
+            @RequestParam(value = "tolerance", required = false) Double tolerance
     ) {
         String coupleIdStr = coupleHeaderResolver.resolveCoupleId(httpRequest);
         String coupleId = normalizeCoupleId(coupleIdStr);
         if (coupleId == null) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "coupleId 헤더가 비어 있습니다.");
         }
-        log.info("📍 [Search] 해금 지역 조회 요청 (coupleId={}, format={})", coupleId, format);
+        log.debug("📍 [Search] 해금 지역 조회 요청 (coupleId={}, format={})", coupleId, format);
 
         if ("feature".equalsIgnoreCase(format)) {
-            log.debug("📄 GeoJSON FeatureCollection 형태 반환");
-            return ResponseEntity.ok(unlockService.getUnlockedRegionsAsFeature(coupleId));
+            SimplificationLevel level = SimplificationLevel.resolve(zoom, tolerance);
+            log.debug("📄 GeoJSON FeatureCollection 형태 반환 (단순화 단계={})", level);
+            GeoJsonFragments features = unlockService.getUnlockedRegionsAsFeature(coupleId, level);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(features.contentLength())
+                    .body((StreamingResponseBody) features::writeTo);
         }
 
         UnlockedOverviewResponse response = unlockService.getUnlockedRegions(coupleId);
-        log.debug("📦 [Search] 리스트형 응답 반환 (도시 수={})", response.getData().size());
+        if (log.isDebugEnabled()) {
+            log.debug("📦 [Search] 리스트형 응답 반환 (도시 수={})", response.getData().size());
+        }
         return ResponseEntity.ok(response);
     }
 
+    // ========================================================================
+    // ✅ [4] 해금 지역 벡터 타일 API (Mapbox Vector Tile, region 레이어)
+    // ========================================================================
+    @GetMapping("/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> regionTile(
+            HttpServletRequest httpRequest,
+            @PathVariable("z") int z,
+            @PathVariable("x") int x,
+            @PathVariable("y") int y
+    ) {
+        String coupleId = normalizeCoupleId(coupleHeaderResolver.resolveCoupleId(httpRequest));
+        if (coupleId == null) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "coupleId 헤더가 비어 있습니다.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("🧱 [Tile] 벡터 타일 요청 (coupleId={}, tile={}/{}/{})", coupleId, z, x, y);
+        }
+
+        byte[] tile = unlockService.getRegionTile(coupleId, z, x, y);
+        // locked 속성이 커플마다 다르므로 공유 캐시에는 저장하지 않음
+        return ResponseEntity.ok()
+                .contentType(MVT_MEDIA_TYPE)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(tile);
+    }
+
     // ========================================================================
     // ✅ 내부 유틸
     // ========================================================================
@@ -0,0 +1,143 @@
+package com.pitterpetter.loventure.territory.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pitterpetter.loventure.territory.domain.region.RegionDataLoadedEvent;
+import com.pitterpetter.loventure.territory.domain.region.RegionOverview;
+import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import com.pitterpetter.loventure.territory.dto.CitySummary;
+import com.pitterpetter.loventure.territory.dto.DistrictSummary;
+import com.pitterpetter.loventure.territory.dto.RegionSummary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시/도 → 구/군 지역 카탈로그 (불변 스냅샷)
+ * - region 적재 완료 시점에 RegionOverview(geom 제외)로 한 번 구축: 구/군별 이름, 설명, 적재 시 계산된 중심 좌표
+ * - 요청 시에는 커플의 해금 region id 집합만 덧씌워 CitySummary 목록 생성
+ * - 다중 해금 요청의 구/시 이름 → Region 변환도 카탈로그에서 처리 (DB 조회 없음)
+ * - 구축 전에 조회되면 그 자리에서 구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionCatalog {
+
+    private final RegionRepository regionRepository;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(RegionDataLoadedEvent.class)
+    public void rebuild() {
+        Snapshot rebuilt = build(regionRepository.findAllOverviews());
+        this.snapshot = rebuilt;
+        log.info("📚 지역 카탈로그 구축 완료 (시/도 {}개, 구/군 {}개)", rebuilt.cities().size(), rebuilt.regionsByName().size());
+    }
+
+    /**
+     * 구/시 이름으로 Region 요약 조회 (findByGuSi와 같은 이름 기준, 앞뒤 공백 제외)
+     */
+    public Optional<RegionSummary> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(current().regionsByName().get(name.trim()));
+    }
+
+    /**
+     * 해금 여부를 반영한 시/도별 요약
+     */
+    public List<CitySummary> overlay(Set<String> unlockedIds) {
+        return current().cities().stream()
+                .map(city -> {
+                    List<DistrictSummary> districts = city.districts().stream()
+                            .map(district -> district.toSummary(!unlockedIds.contains(district.id())))
+                            .toList();
+
+                    int unlockedCount = (int) districts.stream().filter(d -> !d.isLocked()).count();
+
+                    return CitySummary.builder()
+                            .cityName(city.name())
+                            .totalDistricts(districts.size())
+                            .lockedDistricts(districts.size() - unlockedCount)
+                            .unlockedDistricts(unlockedCount)
+                            .districts(districts)
+                            .build();
+                })
+                .toList();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private static Snapshot build(List<RegionOverview> regions) {
+        Map<String, List<District>> grouped = new LinkedHashMap<>();
+        Map<String, RegionSummary> byName = new HashMap<>();
+        for (RegionOverview region : regions) {
+            grouped.computeIfAbsent(region.siDo(), key -> new ArrayList<>()).add(toDistrict(region));
+            if (region.guSi() != null
+                    && byName.putIfAbsent(region.guSi().trim(), RegionSummary.from(region)) != null) {
+                log.warn("⚠️ 같은 이름의 구/군이 여러 개입니다. 첫 번째 Region으로 해금합니다: {}", region.guSi());
+            }
+        }
+        List<City> cities = grouped.entrySet().stream()
+                .map(entry -> new City(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+        return new Snapshot(cities, Map.copyOf(byName));
+    }
+
+    private static District toDistrict(RegionOverview region) {
+        return new District(region.id(), region.guSi(), buildRegionDescription(region),
+                region.centroidLat(), region.centroidLng());
+    }
+
+    private static String buildRegionDescription(RegionOverview region) {
+        String siDo = safeTrim(region.siDo());
+        String guSi = safeTrim(region.guSi());
+
+        if (!siDo.isEmpty() && !guSi.isEmpty()) return (siDo + " " + guSi).trim();
+        if (!guSi.isEmpty()) return guSi;
+        if (!siDo.isEmpty()) return siDo;
+        return null;
+    }
+
+    private static String safeTrim(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    private record Snapshot(List<City> cities, Map<String, RegionSummary> regionsByName) {
+    }
+
+    public record City(String name, List<District> districts) {
+    }
+
+    public record District(String id, String name, String description, Double lat, Double lng) {
+
+        DistrictSummary toSummary(boolean isLocked) {
+            return DistrictSummary.builder()
+                    .id(id)
+                    .name(name)
+                    .isLocked(isLocked)
+                    .description(description)
+                    .lat(lat)
+                    .lng(lng)
+                    .build();
+        }
+    }
+}
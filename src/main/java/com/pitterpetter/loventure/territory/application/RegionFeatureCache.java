@@ -0,0 +1,94 @@
+package com.pitterpetter.loventure.territory.application;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionDataLoadedEvent;
+import com.pitterpetter.loventure.territory.spatial.RegionSnapshotStore;
+import com.pitterpetter.loventure.territory.spatial.SimplificationLevel;
+import com.pitterpetter.loventure.territory.util.GeoJsonFragments;
+import com.pitterpetter.loventure.territory.util.GeoJsonUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Region별 GeoJSON Feature 바이트 캐시
+ * - region 적재 완료 시점에 모든 Region을 단순화 단계(SimplificationLevel)별 UTF-8 Feature 조각으로 미리 직렬화
+ * - format=feature 응답은 해금된 Region의 조각을 이어 붙여 바로 스트리밍
+ * - 구축 전에 조회되면 그 자리에서 구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegionFeatureCache {
+
+    private final RegionSnapshotStore regionSnapshotStore;
+
+    private volatile Map<SimplificationLevel, Map<String, byte[]>> features;
+
+    @EventListener(RegionDataLoadedEvent.class)
+    public void rebuild() {
+        List<Region> regions = regionSnapshotStore.current().regions();
+        Map<SimplificationLevel, Map<String, byte[]>> rebuilt = new EnumMap<>(SimplificationLevel.class);
+        for (SimplificationLevel level : SimplificationLevel.values()) {
+            Map<String, byte[]> levelFeatures = serialize(regions, level);
+            rebuilt.put(level, levelFeatures);
+            log.info("🧩 GeoJSON Feature 캐시 구축 완료 (단계={}, {}개, 약 {}KB)", level, levelFeatures.size(),
+                    levelFeatures.values().stream().mapToLong(bytes -> bytes.length).sum() / 1024);
+        }
+        this.features = rebuilt;
+    }
+
+    /**
+     * region id 목록(id 오름차순 정렬)으로 원본 해상도 FeatureCollection 구성
+     */
+    public GeoJsonFragments featureCollection(Collection<String> regionIds) {
+        return featureCollection(regionIds, SimplificationLevel.FULL);
+    }
+
+    /**
+     * region id 목록(id 오름차순 정렬)으로 지정 단계 FeatureCollection 구성
+     */
+    public GeoJsonFragments featureCollection(Collection<String> regionIds, SimplificationLevel level) {
+        Map<SimplificationLevel, Map<String, byte[]>> current = features;
+        if (current == null) {
+            rebuild();
+            current = features;
+        }
+        Map<String, byte[]> levelFeatures = current.get(level);
+        List<byte[]> fragments = regionIds.stream()
+                .sorted()
+                .map(levelFeatures::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new GeoJsonFragments(fragments);
+    }
+
+    /**
+     * 단계별 Feature 직렬화
+     * - 원본 단계는 geometry 그대로, 나머지는 전체 Region을 하나의 커버리지로 함께 단순화해 이웃 경계가 어긋나지 않게 함
+     */
+    private static Map<String, byte[]> serialize(List<Region> regions, SimplificationLevel level) {
+        Map<String, byte[]> serialized = new HashMap<>(regions.size() * 2);
+        if (level == SimplificationLevel.FULL) {
+            regions.forEach(region -> serialized.put(region.getId(), GeoJsonUtils.toFeatureBytes(region)));
+            return Map.copyOf(serialized);
+        }
+        Geometry[] simplified = level.simplifyCoverage(regions.stream().map(Region::getGeom).toList());
+        for (int i = 0; i < regions.size(); i++) {
+            Region region = regions.get(i);
+            serialized.put(region.getId(), GeoJsonUtils.toFeatureBytes(region, simplified[i], level.decimals()));
+        }
+        return Map.copyOf(serialized);
+    }
+}
@@ -0,0 +1,73 @@
+package com.pitterpetter.loventure.territory.application;
+
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pitterpetter.loventure.territory.domain.region.RegionDataLoadedEvent;
+import com.pitterpetter.loventure.territory.service.CoupleUnlockStateCache;
+import com.pitterpetter.loventure.territory.spatial.RegionLocator;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+import com.pitterpetter.loventure.territory.spatial.RegionTile;
+import com.pitterpetter.loventure.territory.spatial.TileKey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * region 레이어 벡터 타일 캐시
+ * - (z, x, y)별 geometry 인코딩 결과(RegionTile)를 로컬 Caffeine 캐시에 보관
+ * - 요청 시에는 커플 해금 비트셋으로 locked 속성만 덧씌움
+ * - 키에 ordinal 배치(layoutVersion)를 포함하고, region 재적재 시 전체 비움
+ */
+@Slf4j
+@Component
+public class RegionTileCache {
+
+    private static final String CACHE_NAME = "regionTiles";
+
+    private final RegionLocator regionLocator;
+    private final CoupleUnlockStateCache coupleUnlockStateCache;
+    private final Cache<CacheKey, RegionTile> tiles;
+
+    public RegionTileCache(RegionLocator regionLocator,
+                           CoupleUnlockStateCache coupleUnlockStateCache,
+                           MeterRegistry meterRegistry,
+                           @Value("${territory.tiles.cache.max-size:20000}") long maxSize) {
+        this.regionLocator = regionLocator;
+        this.coupleUnlockStateCache = coupleUnlockStateCache;
+        this.tiles = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tiles, CACHE_NAME);
+    }
+
+    @EventListener(RegionDataLoadedEvent.class)
+    public void clear() {
+        tiles.invalidateAll();
+    }
+
+    /**
+     * 커플 해금 상태를 반영한 타일 바이트
+     * - 공간 인덱스 구축 전에는 빈 타일
+     */
+    public byte[] tile(String coupleId, TileKey key) {
+        Optional<RegionSpatialIndex> current = regionLocator.currentIndex();
+        if (current.isEmpty()) {
+            log.warn("⚠️ Region 공간 인덱스 구축 전 타일 요청 - tile: {}", key);
+            return new byte[0];
+        }
+        RegionSpatialIndex index = current.get();
+        RegionTile tile = tiles.get(new CacheKey(index.layoutVersion(), key), k -> RegionTile.build(key, index));
+        return tile.encode(coupleUnlockStateCache.get(index, coupleId));
+    }
+
+    private record CacheKey(String layoutVersion, TileKey tile) {
+    }
+}
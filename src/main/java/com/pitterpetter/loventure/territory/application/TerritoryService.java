@@ -1,34 +1,66 @@
 package com.pitterpetter.loventure.territory.application;
 
-import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegion;
-import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegionRepository;
 import com.pitterpetter.loventure.territory.domain.region.Region;
-import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import com.pitterpetter.loventure.territory.dto.BatchLookupRequest;
+import com.pitterpetter.loventure.territory.dto.BatchLookupResponse;
 import com.pitterpetter.loventure.territory.dto.CheckResponse;
 import com.pitterpetter.loventure.territory.dto.LookupResponse;
 import com.pitterpetter.loventure.territory.dto.RegionSummary;
+import com.pitterpetter.loventure.territory.exception.ApiException;
 import com.pitterpetter.loventure.territory.exception.ErrorCode;
+import com.pitterpetter.loventure.territory.service.CoupleUnlockStateCache;
+import com.pitterpetter.loventure.territory.spatial.RegionLocator;
 import com.pitterpetter.loventure.territory.util.ValidationUtils;
-import java.util.Locale;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 좌표 기반 지역 판별/조회
+ * - 단계별 지연은 territory.region.query{operation, stage} 타이머로 노출
+ *   (stage=spatial: 좌표 → Region, stage=unlock_state: 커플 해금 여부)
+ * - 커버리지 밖 좌표는 territory.coverage.misses{operation} 카운터로 집계
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class TerritoryService {
 
-    private final RegionRepository regionRepository;
-    private final CoupleRegionRepository coupleRegionRepository;
+    static final int MAX_BATCH_POINTS = BatchLookupRequest.MAX_POINTS;
+
+    private final RegionLocator regionLocator;
+    private final CoupleUnlockStateCache coupleUnlockStateCache;
+
+    private final Timer checkSpatialTimer;
+    private final Timer checkUnlockStateTimer;
+    private final Timer lookupSpatialTimer;
+    private final Timer batchSpatialTimer;
+    private final Counter checkMisses;
+    private final Counter lookupMisses;
+    private final Counter batchMisses;
+
+    public TerritoryService(RegionLocator regionLocator,
+                            CoupleUnlockStateCache coupleUnlockStateCache,
+                            MeterRegistry meterRegistry) {
+        this.regionLocator = regionLocator;
+        this.coupleUnlockStateCache = coupleUnlockStateCache;
+        this.checkSpatialTimer = queryTimer(meterRegistry, "check", "spatial");
+        this.checkUnlockStateTimer = queryTimer(meterRegistry, "check", "unlock_state");
+        this.lookupSpatialTimer = queryTimer(meterRegistry, "lookup", "spatial");
+        this.batchSpatialTimer = queryTimer(meterRegistry, "lookup_batch", "spatial");
+        this.checkMisses = missCounter(meterRegistry, "check");
+        this.lookupMisses = missCounter(meterRegistry, "lookup");
+        this.batchMisses = missCounter(meterRegistry, "lookup_batch");
+    }
 
     public CheckResponse check(String coupleId, double lon, double lat) {
         ValidationUtils.validateLonLat(lon, lat);
         String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
-        Optional<Region> regionOptional = findRegionByPoint(lon, lat);
+        Optional<Region> regionOptional = checkSpatialTimer.record(() -> findRegionByPoint(lon, lat));
 
         if (regionOptional.isEmpty()) {
+            checkMisses.increment();
             return CheckResponse.builder()
                 .ok(false)
                 .reason(CheckResponse.Reason.OUT_OF_COVERAGE)
@@ -37,10 +69,8 @@ public class TerritoryService {
         }
 
         Region region = regionOptional.get();
-        boolean unlocked = coupleRegionRepository.findByCoupleIdAndRegion(verifiedCoupleId, region)
-            .map(CoupleRegion::isLocked)
-            .map(locked -> !locked)
-            .orElse(false);
+        boolean unlocked = checkUnlockStateTimer.record(
+            () -> coupleUnlockStateCache.isUnlocked(verifiedCoupleId, region.getId()));
 
         CheckResponse.Reason reason = unlocked
             ? CheckResponse.Reason.UNLOCKED_REGION
@@ -55,13 +85,61 @@ public class TerritoryService {
 
     public LookupResponse lookup(double lon, double lat) {
         ValidationUtils.validateLonLat(lon, lat);
-        return findRegionByPoint(lon, lat)
-            .map(LookupResponse::inCoverage)
-            .orElseGet(LookupResponse::outOfCoverage);
+        Optional<Region> region = lookupSpatialTimer.record(() -> findRegionByPoint(lon, lat));
+        if (region.isEmpty()) {
+            lookupMisses.increment();
+            return LookupResponse.outOfCoverage();
+        }
+        return LookupResponse.inCoverage(region.get());
+    }
+
+    /**
+     * 좌표 일괄 조회 (궤적 업로드용)
+     * - lons[i], lats[i]가 한 좌표이며 결과는 입력 순서와 동일
+     */
+    public BatchLookupResponse lookupBatch(double[] lons, double[] lats) {
+        if (lons.length == 0 || lons.length != lats.length) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "좌표 목록이 비어 있거나 형식이 잘못되었습니다.");
+        }
+        if (lons.length > MAX_BATCH_POINTS) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "한 번에 조회할 수 있는 좌표는 최대 " + MAX_BATCH_POINTS + "개입니다.");
+        }
+        for (int i = 0; i < lons.length; i++) {
+            try {
+                ValidationUtils.validateLonLat(lons[i], lats[i]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("points[" + i + "]: " + e.getMessage());
+            }
+        }
+
+        List<Optional<Region>> regions = batchSpatialTimer.record(() -> regionLocator.findRegions(lons, lats));
+        long misses = regions.stream().filter(Optional::isEmpty).count();
+        if (misses > 0) {
+            batchMisses.increment(misses);
+        }
+
+        List<LookupResponse> results = regions.stream()
+            .map(region -> region.map(LookupResponse::inCoverage).orElseGet(LookupResponse::outOfCoverage))
+            .toList();
+        return BatchLookupResponse.of(results);
     }
 
     private Optional<Region> findRegionByPoint(double lon, double lat) {
-        String pointWkt = String.format(Locale.US, "POINT(%f %f)", lon, lat);
-        return regionRepository.findRegionByPoint(pointWkt);
+        return regionLocator.findRegion(lon, lat);
+    }
+
+    private static Timer queryTimer(MeterRegistry meterRegistry, String operation, String stage) {
+        return Timer.builder("territory.region.query")
+            .description("Latency of region checks and lookups by stage")
+            .tag("operation", operation)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+
+    private static Counter missCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("territory.coverage.misses")
+            .description("Coordinates that fell outside every known region")
+            .tag("operation", operation)
+            .register(meterRegistry);
     }
 }
@@ -1,34 +1,53 @@
 package com.pitterpetter.loventure.territory.application;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.locationtech.jts.geom.Point;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegion;
 import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegionRepository;
+import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegionRepositoryCustom.UnlockedRow;
 import com.pitterpetter.loventure.territory.domain.region.Region;
 import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import com.pitterpetter.loventure.territory.domain.region.RegionSummaryView;
 import com.pitterpetter.loventure.territory.dto.CitySummary;
-import com.pitterpetter.loventure.territory.dto.DistrictSummary;
+import com.pitterpetter.loventure.territory.dto.RegionSummary;
 import com.pitterpetter.loventure.territory.dto.UnlockResponse;
 import com.pitterpetter.loventure.territory.dto.UnlockedOverviewResponse;
 import com.pitterpetter.loventure.territory.exception.ApiException;
 import com.pitterpetter.loventure.territory.exception.ErrorCode;
-import com.pitterpetter.loventure.territory.infra.AuthClient;
+import com.pitterpetter.loventure.territory.infra.AuthTokenVerifier;
+import com.pitterpetter.loventure.territory.infra.ResilientAuthClient;
+import com.pitterpetter.loventure.territory.service.CoupleUnlockStateCache;
 import com.pitterpetter.loventure.territory.service.RedisTicketService;
-import com.pitterpetter.loventure.territory.util.GeoJsonUtils;
+import com.pitterpetter.loventure.territory.service.TicketConsumeResult;
+import com.pitterpetter.loventure.territory.spatial.SimplificationLevel;
+import com.pitterpetter.loventure.territory.spatial.TileKey;
+import com.pitterpetter.loventure.territory.util.GeoJsonFragments;
 import com.pitterpetter.loventure.territory.util.ValidationUtils;
 
 import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,60 +59,139 @@ public class UnlockService {
 
     private final CoupleRegionRepository coupleRegionRepository;
     private final RegionRepository regionRepository;
-    private final AuthClient authClient;
+    private final ResilientAuthClient authClient;
+    private final AuthTokenVerifier authTokenVerifier;
     private final RedisTicketService redisTicketService;
+    private final CoupleUnlockStateCache coupleUnlockStateCache;
+    private final RegionCatalog regionCatalog;
+    private final RegionFeatureCache regionFeatureCache;
+    private final RegionTileCache regionTileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     // ========================================================================
     // ✅ [1] Auth 검증 기반 초기 해금
-    // 프론트 → Territory → Auth → OK → 티켓 차감 → 해금
+    // 프론트 → Territory → 지역명 변환 → Auth 검증 → 티켓 차감 → 해금
+    // - 지역명 변환은 메모리 카탈로그 조회라 Auth 호출과 겹쳐 돌릴 만한 I/O가 없으므로 순서대로 처리
+    // - 티켓 차감은 Auth에 되돌리는 API가 없으므로 검증 성공 이후에만 요청 (보상 불필요)
+    // - 잘못된 지역명은 Auth 호출·티켓 차감 전에 거절
     // ========================================================================
     public List<UnlockResponse> initUnlock(String coupleId, List<String> regions, HttpServletRequest request) {
-        log.info("🔐 [Init Unlock] Auth 검증 시작...");
+        log.debug("🔐 [Init Unlock] Auth 검증 시작...");
 
-        if (!verifyAuthToken(coupleId, request)) {
-            throw new ApiException(ErrorCode.AUTH_TOKEN_INVALID, "Auth 토큰 검증 실패");
+        if (regions == null || regions.isEmpty()) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "regionNames 리스트가 비어 있습니다.");
+        }
+        String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        List<RegionSummary> resolved = resolveRegions(regions);
+
+        if (!verifyAuthorization(verifiedCoupleId, authorization)) {
+            throw new ApiException(ErrorCode.AUTH_TOKEN_INVALID, "Auth 서버 검증 실패");
         }
 
-        log.info("✅ Auth 검증 통과. 티켓 차감 및 해금 진행...");
-        
+        log.debug("✅ Auth 검증 통과. 티켓 차감 및 해금 진행...");
+
         // 티켓 차감 요청
-        if (!consumeTicketFromAuthService(coupleId, request)) {
-            throw new ApiException(ErrorCode.INVALID_REQUEST, "티켓 잔여 수량 부족");
+        if (!consumeTicket(verifiedCoupleId, authorization)) {
+            meterRegistry.counter("territory.ticket.rejections", "source", "auth").increment();
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "티켓이 부족합니다");
         }
-        
-        return unlockMultipleRegions(coupleId, regions);
+
+        // 자기 호출은 프록시를 거치지 않으므로 트랜잭션은 TransactionTemplate으로 시작
+        return transactionTemplate.execute(status -> applyUnlock(verifiedCoupleId, resolved));
     }
 
     // ========================================================================
-    // ✅ [2] Redis 검증 기반 티켓 해금
-    // Gateway → Redis → Territory → 해금
+    // ✅ [2] Redis 티켓 차감 기반 해금
+    // Gateway → Redis(Lua: 검증 + 차감 + 멱등 키) → Territory → 해금
+    // - 같은 멱등 키·같은 지역 목록으로 재시도하면 추가 차감 없이 해금만 다시 수행 (해금은 멱등)
+    // - 같은 멱등 키로 다른 지역 목록을 보내면 409 (멱등 키에 지역 목록 digest를 저장해 비교)
+    // - Gateway 티켓 수(X-Ticket-Count)는 Redis에 값이 없으면 초기값, 마지막으로 반영한 값보다 늘었으면 차이만큼 추가
+    // - 해금 트랜잭션이 커밋되지 않으면 차감한 티켓을 되돌림
     // ========================================================================
-    public List<UnlockResponse> rewardUnlock(String coupleId, List<String> regions) {
-        log.info("🎟️ [Reward Unlock] Redis 검증 시작...");
+    @Transactional
+    public List<UnlockResponse> rewardUnlock(String coupleId, List<String> regions, String idempotencyKey,
+                                             Integer gatewayTicketCount) {
+        log.debug("🎟️ [Reward Unlock] Redis 티켓 차감 시작...");
 
-        if (!verifyRedisTicket(coupleId)) {
+        String requestKey = idempotencyKey == null || idempotencyKey.isBlank()
+                ? UUID.randomUUID().toString()
+                : idempotencyKey.trim();
+
+        TicketConsumeResult consumed;
+        try {
+            consumed = redisTicketService.consumeTicket(coupleId, requestKey, requestDigest(regions), gatewayTicketCount);
+        } catch (Exception e) {
+            log.error("❌ Redis 티켓 차감 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
+            throw new ApiException(ErrorCode.INTERNAL_ERROR, "티켓 확인 중 오류가 발생했습니다.");
+        }
+        if (consumed == TicketConsumeResult.CONFLICT) {
+            throw new ApiException(ErrorCode.IDEMPOTENCY_CONFLICT, "같은 Idempotency-Key로 다른 지역 해금이 이미 처리되었습니다.");
+        }
+        if (!consumed.isGranted()) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "티켓 잔여 수량 부족");
         }
+        if (consumed == TicketConsumeResult.CONSUMED) {
+            refundTicketUnlessCommitted(coupleId, requestKey);
+        }
 
-        log.info("✅ Redis 검증 통과. 해금 진행...");
+        log.debug("✅ Redis 티켓 차감 완료 ({}). 해금 진행...", consumed);
         return unlockMultipleRegions(coupleId, regions);
     }
 
+    /**
+     * 해금 요청 내용 요약 (지역명 정렬·중복 제거 후 SHA-256)
+     * - 순서나 중복만 다른 재시도는 같은 요청으로 취급
+     */
+    static String requestDigest(List<String> regions) {
+        String canonical = regions.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void refundTicketUnlessCommitted(String coupleId, String requestKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("↩️ 해금 트랜잭션 미완료로 티켓 환불 - coupleId: {}", coupleId);
+                    redisTicketService.refundTicket(coupleId, requestKey);
+                }
+            }
+        });
+    }
+
     // ========================================================================
-    // ✅ Auth 검증 (FeignClient 기반)
+    // ✅ Auth 검증 (FeignClient 기반, 성공 결과 단기 캐시 + 동시 요청 병합)
     // ========================================================================
-    public boolean verifyAuthToken(String coupleId, HttpServletRequest request) {
+    private boolean verifyAuthorization(String coupleId, String token) {
         try {
-            String token = request.getHeader(HttpHeaders.AUTHORIZATION);
             if (token == null || !token.startsWith("Bearer ")) {
                 log.warn("⚠️ Authorization 헤더 누락 또는 잘못된 형식");
                 return false;
             }
 
-            authClient.verifyToken(token);
-            log.info("✅ Auth 서버 검증 성공 (coupleId={})", coupleId);
+            authTokenVerifier.verify(token);
+            log.debug("✅ Auth 서버 검증 성공 (coupleId={})", coupleId);
             return true;
 
+        } catch (ApiException e) {
+            // Auth 서비스 보호(서킷 오픈/동시 호출 한도) 거절은 검증 실패가 아니라 503으로 전달
+            throw e;
         } catch (FeignException e) {
             log.error("❌ Auth 검증 실패 (status={}, coupleId={}): {}", e.status(), coupleId, e.contentUTF8());
             return false;
@@ -110,7 +208,7 @@ public class UnlockService {
         try {
             boolean hasTicket = redisTicketService.hasTicket(coupleId);
             if (hasTicket) {
-                log.info("🎟️ Redis 티켓 검증 성공 - coupleId: {}", coupleId);
+                log.debug("🎟️ Redis 티켓 검증 성공 - coupleId: {}", coupleId);
                 return true;
             } else {
                 log.warn("❌ Redis 티켓 부족 - coupleId: {}", coupleId);
@@ -121,27 +219,12 @@ public class UnlockService {
             return false;
         }
     }
-    
-    /**
-     * Gateway에서 전달받은 티켓 정보를 Redis에 저장
-     */
-    public void setTicketCountFromGateway(String coupleId, int ticketCount) {
-        try {
-            redisTicketService.setTicketCount(coupleId, ticketCount);
-            log.info("🎟️ Gateway에서 전달받은 티켓 정보 저장 완료 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
-        } catch (Exception e) {
-            log.error("❌ Gateway 티켓 정보 저장 실패 - coupleId: {}, ticketCount: {}, error: {}", 
-                    coupleId, ticketCount, e.getMessage());
-        }
-    }
 
     // ========================================================================
     // ✅ Auth Service에서 티켓 차감 및 Rock 완료 요청 (init unlock용)
-
     // ========================================================================
-    public boolean consumeTicketFromAuthService(String coupleId, HttpServletRequest request) {
+    private boolean consumeTicket(String coupleId, String token) {
         try {
-            String token = request.getHeader(HttpHeaders.AUTHORIZATION);
             if (token == null || !token.startsWith("Bearer ")) {
                 log.warn("⚠️ Authorization 헤더 누락 또는 잘못된 형식");
                 return false;
@@ -152,6 +235,8 @@ public class UnlockService {
             log.info("✅ Auth Service에서 티켓 차감 및 Rock 완료 성공 (coupleId={})", coupleId);
             return true;
 
+        } catch (ApiException e) {
+            throw e;
         } catch (FeignException e) {
             log.error("❌ 티켓 차감 및 Rock 완료 실패 (status={}, coupleId={}): {}", e.status(), coupleId, e.contentUTF8());
             return false;
@@ -165,29 +250,66 @@ public class UnlockService {
     // ✅ 다중 해금 처리 (regions 배열 입력용)
     // ========================================================================
     @Transactional
-    @CacheEvict(value = "unlockedRegions", key = "#coupleId")
     public List<UnlockResponse> unlockMultipleRegions(String coupleId, List<String> regionNames) {
         if (regionNames == null || regionNames.isEmpty()) {
             throw new ApiException(ErrorCode.INVALID_REQUEST, "regionNames 리스트가 비어 있습니다.");
         }
 
         String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
-        List<UnlockResponse> unlockedList = new ArrayList<>();
+        return applyUnlock(verifiedCoupleId, resolveRegions(regionNames));
+    }
 
+    /**
+     * 이름 → Region (카탈로그, 요청 순서 유지)
+     */
+    private List<RegionSummary> resolveRegions(List<String> regionNames) {
+        List<RegionSummary> regions = new ArrayList<>(regionNames.size());
         for (String name : regionNames) {
-            regionRepository.findByGuSi(name.trim()).ifPresentOrElse(region -> {
-                CoupleRegion cr = coupleRegionRepository
-                        .findByCoupleIdAndRegion(verifiedCoupleId, region)
-                        .map(this::updateUnlock)
-                        .orElseGet(() -> createUnlock(verifiedCoupleId, region));
-
-                CoupleRegion saved = coupleRegionRepository.save(cr);
-                unlockedList.add(UnlockResponse.from(saved));
-
-            }, () -> {
-                throw new ApiException(ErrorCode.REGION_NOT_FOUND, "존재하지 않는 지역명: " + name);
-            });
+            regions.add(regionCatalog.findByName(name).orElseThrow(() ->
+                    new ApiException(ErrorCode.REGION_NOT_FOUND, "존재하지 않는 지역명: " + name)));
+        }
+        return regions;
+    }
+
+    /**
+     * 해금 반영 (upsert + 비트셋 갱신)
+     * - 지연은 요청 지역 수 구간별 territory.unlock.apply{regions} 타이머로 노출
+     */
+    private List<UnlockResponse> applyUnlock(String coupleId, List<RegionSummary> regions) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return upsertUnlocked(coupleId, regions);
+        } finally {
+            sample.stop(Timer.builder("territory.unlock.apply")
+                    .description("Latency of applying unlocks, bucketed by requested region count")
+                    .tag("regions", regionCountBucket(regions.size()))
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String regionCountBucket(int count) {
+        if (count <= 1) return "1";
+        if (count <= 5) return "2-5";
+        if (count <= 10) return "6-10";
+        return "11+";
+    }
+
+    private List<UnlockResponse> upsertUnlocked(String coupleId, List<RegionSummary> regions) {
+        // ① 중복 제거한 region id로 한 번에 upsert
+        Set<String> regionIds = new LinkedHashSet<>();
+        regions.forEach(region -> regionIds.add(region.id()));
+        Map<String, UnlockedRow> rows = new HashMap<>();
+        for (UnlockedRow row : coupleRegionRepository.upsertUnlocked(coupleId, regionIds, LocalDateTime.now())) {
+            rows.put(row.regionId(), row);
         }
+
+        // ② 응답은 요청 순서대로 (중복 이름도 요청한 만큼)
+        List<UnlockResponse> unlockedList = new ArrayList<>(regions.size());
+        for (RegionSummary region : regions) {
+            UnlockedRow row = rows.get(region.id());
+            unlockedList.add(UnlockResponse.of(coupleId, region, row.locked(), row.unlockedAt()));
+        }
+        coupleUnlockStateCache.markUnlocked(coupleId, regionIds);
         return unlockedList;
     }
 
@@ -195,10 +317,11 @@ public class UnlockService {
     // ✅ 기존 단일 해금 (호환 유지)
     // ========================================================================
     @Transactional
-    @CacheEvict(value = "unlockedRegions", key = "#coupleId")
     public UnlockResponse unlockRegion(String coupleId, String sigCd, String regionId, String regionName) {
         String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
-        Region region = resolveRegionByDirectValues(regionId, sigCd, regionName);
+        RegionSummaryView view = resolveRegionByDirectValues(regionId, sigCd, regionName);
+        // 연관관계에는 id만 필요하므로 프록시 참조 (Region 행 재조회 없음)
+        Region region = regionRepository.getReferenceById(view.getId());
 
         CoupleRegion coupleRegion = coupleRegionRepository
                 .findByCoupleIdAndRegion(verifiedCoupleId, region)
@@ -206,20 +329,24 @@ public class UnlockService {
                 .orElseGet(() -> createUnlock(verifiedCoupleId, region));
 
         CoupleRegion saved = coupleRegionRepository.save(coupleRegion);
-        return UnlockResponse.from(saved);
+        coupleUnlockStateCache.markUnlocked(verifiedCoupleId, List.of(view.getId()));
+        return UnlockResponse.of(saved.getCoupleId(), RegionSummary.from(view), saved.isLocked(), saved.getUnlockedAt());
     }
 
-    private Region resolveRegionByDirectValues(String regionId, String sigCd, String regionName) {
+    /**
+     * 단일 해금 대상 Region 이름/코드 조회 (projection, geom 로딩 없음)
+     */
+    private RegionSummaryView resolveRegionByDirectValues(String regionId, String sigCd, String regionName) {
         if (regionId != null && !regionId.isBlank()) {
-            return regionRepository.findById(regionId.trim())
+            return regionRepository.findSummaryById(regionId.trim())
                     .orElseThrow(() -> new ApiException(ErrorCode.REGION_NOT_FOUND));
         }
         if (sigCd != null && !sigCd.isBlank()) {
-            return regionRepository.findBySigCd(sigCd)
+            return regionRepository.findSummaryBySigCd(sigCd)
                     .orElseThrow(() -> new ApiException(ErrorCode.REGION_NOT_FOUND));
         }
         if (regionName != null && !regionName.isBlank()) {
-            return regionRepository.findByGuSi(regionName.trim())
+            return regionRepository.findSummaryByGuSi(regionName.trim())
                     .orElseThrow(() -> new ApiException(ErrorCode.REGION_NOT_FOUND));
         }
         throw new ApiException(ErrorCode.INVALID_REQUEST);
@@ -227,40 +354,15 @@ public class UnlockService {
 
     // ========================================================================
     // ✅ 조회 관련
+    // 해금 현황 캐시 키에 해금 상태 버전을 포함 (해금 시 키가 바뀌므로 별도 무효화 없음)
+    // - 오래된 비트셋을 본 인스턴스는 이전 버전 키에만 쓰므로 새 상태의 캐시를 덮어쓰지 못함
     // ========================================================================
-    @Transactional(readOnly = true)
+    @Cacheable(value = "unlockedRegions", key = "#coupleId + ':' + @coupleUnlockStateCache.version(#coupleId)")
     public UnlockedOverviewResponse getUnlockedRegions(String coupleId) {
-        List<Region> allRegions = regionRepository.findAll();
-        List<CoupleRegion> unlockedRegions = coupleRegionRepository.findByCoupleIdAndIsLockedFalse(coupleId);
-
-        Set<String> unlockedIds = unlockedRegions.stream()
-                .map(cr -> cr.getRegion().getId())
-                .collect(Collectors.toSet());
-
-        Map<String, List<Region>> grouped = allRegions.stream()
-                .collect(Collectors.groupingBy(Region::getSi_do));
-
-        List<CitySummary> cities = grouped.entrySet().stream()
-                .map(entry -> {
-                    String city = entry.getKey();
-                    List<Region> regions = entry.getValue();
-
-                    List<DistrictSummary> districts = regions.stream()
-                            .map(region -> toDistrictSummary(region, unlockedIds))
-                            .collect(Collectors.toList());
-
-                    long unlockedCount = districts.stream().filter(d -> !d.isLocked()).count();
-
-                    return CitySummary.builder()
-                            .cityName(city)
-                            .totalDistricts(districts.size())
-                            .lockedDistricts((int) (districts.size() - unlockedCount))
-                            .unlockedDistricts((int) unlockedCount)
-                            .districts(districts)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
+        Set<String> unlockedIds = coupleUnlockStateCache.unlockedRegionIds(verifiedCoupleId);
 
+        List<CitySummary> cities = regionCatalog.overlay(unlockedIds);
         Map<String, Object> data = Map.of("cities", cities);
 
         return UnlockedOverviewResponse.builder()
@@ -269,55 +371,24 @@ public class UnlockService {
                 .build();
     }
 
-    @Transactional(readOnly = true)
-    public Map<String, Object> getUnlockedRegionsAsFeature(String coupleId) {
-        List<CoupleRegion> coupleRegions = getUnlockedCoupleRegions(coupleId);
-        List<Region> regions = coupleRegions.stream()
-                .map(CoupleRegion::getRegion)
-                .collect(Collectors.toList());
-        return GeoJsonUtils.toFeatureCollection(regions);
-    }
-
-    private List<CoupleRegion> getUnlockedCoupleRegions(String coupleId) {
+    /**
+     * 해금 지역 GeoJSON FeatureCollection (미리 직렬화된 Feature 조각 조합)
+     * - level: 지도 축척에 맞춰 미리 단순화해 둔 경계 단계
+     */
+    public GeoJsonFragments getUnlockedRegionsAsFeature(String coupleId, SimplificationLevel level) {
         String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
-        return coupleRegionRepository.findByCoupleIdAndIsLockedFalse(verifiedCoupleId);
+        return regionFeatureCache.featureCollection(coupleUnlockStateCache.unlockedRegionIds(verifiedCoupleId), level);
     }
 
-    private DistrictSummary toDistrictSummary(Region region, Set<String> unlockedIds) {
-        boolean isLocked = !unlockedIds.contains(region.getId());
-        Double lat = null;
-        Double lng = null;
-
-        if (region.getGeom() != null && !region.getGeom().isEmpty()) {
-            Point centroid = region.getGeom().getCentroid();
-            if (centroid != null && !centroid.isEmpty()) {
-                lng = centroid.getX();
-                lat = centroid.getY();
-            }
+    /**
+     * 해금 상태(locked 속성)를 반영한 region 레이어 벡터 타일 (MVT)
+     */
+    public byte[] getRegionTile(String coupleId, int z, int x, int y) {
+        String verifiedCoupleId = ValidationUtils.requireNonBlank(coupleId, ErrorCode.INVALID_REQUEST);
+        if (!TileKey.isValid(z, x, y)) {
+            throw new ApiException(ErrorCode.INVALID_REQUEST, "잘못된 타일 좌표입니다: " + z + "/" + x + "/" + y);
         }
-
-        return DistrictSummary.builder()
-                .id(region.getId())
-                .name(region.getGu_si())
-                .isLocked(isLocked)
-                .description(buildRegionDescription(region))
-                .lat(lat)
-                .lng(lng)
-                .build();
-    }
-
-    private String buildRegionDescription(Region region) {
-        String siDo = safeTrim(region.getSi_do());
-        String guSi = safeTrim(region.getGu_si());
-
-        if (!siDo.isEmpty() && !guSi.isEmpty()) return (siDo + " " + guSi).trim();
-        if (!guSi.isEmpty()) return guSi;
-        if (!siDo.isEmpty()) return siDo;
-        return null;
-    }
-
-    private String safeTrim(String value) {
-        return value == null ? "" : value.trim();
+        return regionTileCache.tile(verifiedCoupleId, new TileKey(z, x, y));
     }
 
     private CoupleRegion updateUnlock(CoupleRegion coupleRegion) {
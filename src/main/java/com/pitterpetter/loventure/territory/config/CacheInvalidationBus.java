@@ -0,0 +1,71 @@
+package com.pitterpetter.loventure.territory.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인스턴스 간 로컬 캐시 무효화 채널 (Redis Pub/Sub)
+ * - 메시지 형식: {발행 인스턴스}|{캐시 이름}|{키} (키가 비어 있으면 캐시 전체 비우기)
+ * - 자기 자신이 발행한 메시지는 무시 (발행 시점에 이미 로컬 캐시를 정리함)
+ * - Pub/Sub은 전달을 보장하지 않으므로 로컬 캐시는 반드시 TTL과 함께 사용
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "territory:cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Consumer<String>> subscribers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 수신 등록 (key == null 이면 전체 비우기)
+     */
+    public void subscribe(String cacheName, Consumer<String> onEvict) {
+        subscribers.put(cacheName, onEvict);
+    }
+
+    /**
+     * 다른 인스턴스에 무효화 전파 (key == null 이면 전체 비우기)
+     */
+    public void publish(String cacheName, String key) {
+        try {
+            String message = instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key);
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("⚠️ 캐시 무효화 전파 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        Consumer<String> subscriber = subscribers.get(parts[1]);
+        if (subscriber != null) {
+            subscriber.accept(parts[2].isEmpty() ? null : parts[2]);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.pitterpetter.loventure.territory.config;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 엔드포인트별 로그 샘플링 비율 (territory.logging.sampling)
+ * - endpoints 키는 컨트롤러 매핑 패턴 (예: "[/api/regions/search]": 0.01)
+ * - 비율은 0.0(INFO 이하 로그 없음) ~ 1.0(모두 기록), 지정하지 않은 엔드포인트는 default-rate
+ */
+@ConfigurationProperties(prefix = "territory.logging.sampling")
+public record LogSamplingProperties(@DefaultValue("1.0") double defaultRate,
+                                    Map<String, Double> endpoints) {
+
+    public LogSamplingProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    double rateFor(String pattern) {
+        if (pattern == null) {
+            return defaultRate;
+        }
+        return endpoints.getOrDefault(pattern, defaultRate);
+    }
+}
@@ -0,0 +1,105 @@
+package com.pitterpetter.loventure.territory.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 샘플링/비동기 출력 설정
+ * - 요청마다 엔드포인트별 비율로 샘플링 여부를 정해 MDC에 표시 (SampledLogTurboFilter가 참조)
+ * - logback-spring.xml의 ASYNC appender 큐 상태를 territory.logging.async.queue.* 게이지로 노출
+ * - 레벨별 로그 건수는 Spring Boot 기본 메트릭 logback.events{level}
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(LogSamplingProperties.class)
+public class LoggingConfig implements WebMvcConfigurer {
+
+    private static final String ASYNC_APPENDER_NAME = "ASYNC";
+
+    private final LogSamplingProperties samplingProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new LogSamplingInterceptor(samplingProperties));
+    }
+
+    @Bean
+    public MeterBinder asyncLogAppenderMetrics() {
+        return registry -> {
+            if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+                return;
+            }
+            Appender<ILoggingEvent> appender = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)
+                    .getAppender(ASYNC_APPENDER_NAME);
+            if (!(appender instanceof AsyncAppender async)) {
+                return;
+            }
+            Gauge.builder("territory.logging.async.queue.size", async, AsyncAppender::getNumberOfElementsInQueue)
+                    .description("Log events waiting in the async appender queue")
+                    .register(registry);
+            Gauge.builder("territory.logging.async.queue.remaining", async, AsyncAppender::getRemainingCapacity)
+                    .description("Free slots in the async appender queue (INFO and below are dropped near full)")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 요청 시작 시 샘플링 여부 결정, 샘플링에서 빠진 요청만 MDC에 표시
+     * - 결정은 요청 속성에 보관해 비동기 재디스패치(StreamingResponseBody 등)에서도 같은 값을 사용
+     * - 요청 스레드를 떠날 때(비동기 시작·완료)마다 MDC 값을 지워 풀 스레드의 다음 요청으로 새지 않게 함
+     */
+    @RequiredArgsConstructor
+    static class LogSamplingInterceptor implements AsyncHandlerInterceptor {
+
+        private static final String SAMPLED_ATTRIBUTE = LogSamplingInterceptor.class.getName() + ".sampled";
+
+        private final LogSamplingProperties properties;
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            MDC.remove(SampledLogTurboFilter.MDC_KEY);
+            Boolean sampled = (Boolean) request.getAttribute(SAMPLED_ATTRIBUTE);
+            if (sampled == null) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                double rate = properties.rateFor(pattern == null ? null : pattern.toString());
+                sampled = rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+                request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+            }
+            if (!sampled) {
+                MDC.put(SampledLogTurboFilter.MDC_KEY, SampledLogTurboFilter.NOT_SAMPLED);
+            }
+            return true;
+        }
+
+        @Override
+        public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                                   Object handler) {
+            MDC.remove(SampledLogTurboFilter.MDC_KEY);
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                    Object handler, Exception ex) {
+            MDC.remove(SampledLogTurboFilter.MDC_KEY);
+        }
+    }
+}
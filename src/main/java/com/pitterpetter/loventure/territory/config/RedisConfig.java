@@ -1,38 +1,93 @@
 package com.pitterpetter.loventure.territory.config;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.pitterpetter.loventure.territory.dto.UnlockedOverviewResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Redis 설정 클래스
  * - Redis 연동을 위한 RedisTemplate 설정
- * - 캐시 기능 활성화
+ * - 캐시 기능 활성화 (로컬 Caffeine + Redis 2단계 캐시)
+ * - 인스턴스 간 캐시 무효화용 Pub/Sub 리스너 컨테이너
  */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE) // 캐시 적중 시 트랜잭션을 열지 않도록 가장 바깥에서 동작
 public class RedisConfig {
-    
+
+    public static final String UNLOCKED_REGIONS_CACHE = "unlockedRegions";
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
-        
+
         // Key는 String으로 직렬화
         template.setKeySerializer(new StringRedisSerializer());
-        
+
         // Value는 JSON으로 직렬화
         template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        
+
         // Hash Key/Value도 설정
         template.setHashKeySerializer(new StringRedisSerializer());
         template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
-        
+
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * 해금 조회 캐시
+     * - unlockedRegions: 시/도별 해금 현황 (format=list), 키 = coupleId:해금 상태 버전
+     * - format=feature는 RegionFeatureCache의 미리 직렬화된 조각으로 응답하므로 별도 캐시 없음
+     * Redis 값은 캐시별 타입 JSON으로 저장 (타입 메타데이터 없음)
+     */
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${territory.cache.near.max-size:10000}") long nearMaxSize,
+                                     @Value("${territory.cache.near.ttl:60s}") Duration nearTtl,
+                                     @Value("${territory.cache.redis.ttl:10m}") Duration redisTtl) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(redisTtl)
+                .disableCachingNullValues()
+                .prefixCacheNameWith("territory:cache:");
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(Map.of(
+                        UNLOCKED_REGIONS_CACHE, defaults.serializeValuesWith(SerializationPair.fromSerializer(
+                                new Jackson2JsonRedisSerializer<>(UnlockedOverviewResponse.class)))))
+                .disableCreateOnMissingCache()
+                .enableStatistics()
+                .build();
+
+        return new TwoTierCacheManager(redisCacheManager, cacheInvalidationBus, meterRegistry, nearMaxSize, nearTtl);
+    }
+}
@@ -0,0 +1,51 @@
+package com.pitterpetter.loventure.territory.config;
+
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * 요청 단위 로그 샘플링 필터 (logback-spring.xml에 등록)
+ * - 샘플링에서 빠진 요청(MDC log.sampled=false)의 서비스 로그 중 INFO 이하를 이벤트 생성 전에 버림
+ * - WARN/ERROR와 요청 밖(부팅, 비동기 작업) 로그는 항상 통과
+ * - 메시지 포맷팅/LoggingEvent 생성 전에 판단하므로 버려진 로그는 할당이 없음
+ * - 버린 로그 수는 territory.logging.suppressed 카운터로 노출 (logback 초기화 시점에는 Spring 빈이 없어 전역 레지스트리 사용)
+ */
+public class SampledLogTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "log.sampled";
+    public static final String NOT_SAMPLED = "false";
+
+    private static final String APP_LOGGER_PREFIX = "com.pitterpetter.loventure.territory";
+
+    private Counter suppressed;
+
+    @Override
+    public void start() {
+        this.suppressed = Counter.builder("territory.logging.suppressed")
+                .description("Log events dropped because the request was not sampled")
+                .register(Metrics.globalRegistry);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!NOT_SAMPLED.equals(MDC.get(MDC_KEY)) || !logger.getName().startsWith(APP_LOGGER_PREFIX)) {
+            return FilterReply.NEUTRAL;
+        }
+        // isDebugEnabled() 같은 레벨 확인(format == null)과 어차피 꺼진 레벨은 집계하지 않음
+        if (format != null && level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            suppressed.increment();
+        }
+        return FilterReply.DENY;
+    }
+}
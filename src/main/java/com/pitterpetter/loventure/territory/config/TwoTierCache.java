@@ -0,0 +1,111 @@
+package com.pitterpetter.loventure.territory.config;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ * - 조회: 로컬 → Redis → 로더 순서, Redis 적중 시 로컬에 채움
+ * - 무효화: Redis와 로컬을 함께 지우고 CacheInvalidationBus로 다른 인스턴스의 로컬 캐시도 정리
+ * - null 값은 캐시하지 않음
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache;
+    private final Cache redisCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache,
+                        Cache redisCache,
+                        CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.redisCache = redisCache;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(name, key -> {
+            if (key == null) {
+                nearCache.invalidateAll();
+            } else {
+                nearCache.invalidate(key);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nearCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object nearValue = nearCache.getIfPresent(key);
+        if (nearValue != null) {
+            return new SimpleValueWrapper(nearValue);
+        }
+        ValueWrapper remote = redisCache.get(key);
+        if (remote != null && remote.get() != null) {
+            nearCache.put(key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) nearCache.get(key, k -> redisCache.get(k, valueLoader));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        if (value != null) {
+            nearCache.put(key, value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        nearCache.invalidate(key);
+        invalidationBus.publish(name, String.valueOf(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evict(key);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        nearCache.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        clear();
+        return true;
+    }
+}
@@ -0,0 +1,67 @@
+package com.pitterpetter.loventure.territory.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * TwoTierCache를 제공하는 CacheManager
+ * - 캐시 이름은 RedisCacheManager에 등록된 초기 캐시 목록을 따름 (미등록 이름은 사용 불가)
+ * - 캐시별 로컬/Redis 적중·미스·제거 메트릭을 cache.* 로 노출 (tier 태그로 구분)
+ * - 트랜잭션 안의 put/evict는 커밋 이후에 반영
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final long nearMaxSize;
+    private final Duration nearTtl;
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               CacheInvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry,
+                               long nearMaxSize,
+                               Duration nearTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.nearMaxSize = nearMaxSize;
+        this.nearTtl = nearTtl;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : redisCacheManager.getCacheNames()) {
+            RedisCache redisCache = (RedisCache) redisCacheManager.getCache(cacheName);
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache = Caffeine.newBuilder()
+                    .maximumSize(nearMaxSize)
+                    .expireAfterWrite(nearTtl)
+                    .recordStats()
+                    .build();
+
+            CaffeineCacheMetrics.monitor(meterRegistry, nearCache, cacheName, "tier", "near");
+            new RedisCacheMetrics(redisCache, Tags.of("tier", "redis")).bindTo(meterRegistry);
+
+            caches.add(new TwoTierCache(cacheName, nearCache, redisCache, invalidationBus));
+        }
+        return caches;
+    }
+}
@@ -4,8 +4,10 @@ import com.pitterpetter.loventure.territory.domain.region.Region;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CoupleRegionRepository extends JpaRepository<CoupleRegion, Long> {
+public interface CoupleRegionRepository extends JpaRepository<CoupleRegion, Long>, CoupleRegionRepositoryCustom {
 
     Optional<CoupleRegion> findByCoupleIdAndRegion(String coupleId, Region region);
 
@@ -13,5 +15,9 @@ public interface CoupleRegionRepository extends JpaRepository<CoupleRegion, Long
 
     List<CoupleRegion> findByCoupleId(String coupleId);
 
-    List<CoupleRegion> findByCoupleIdAndIsLockedFalse(String coupleId);
+    /**
+     * ✅ 해금된 region id만 조회 (Region 엔티티 로딩 없음)
+     */
+    @Query("SELECT cr.region.id FROM CoupleRegion cr WHERE cr.coupleId = :coupleId AND cr.isLocked = false")
+    List<String> findUnlockedRegionIds(@Param("coupleId") String coupleId);
 }
@@ -0,0 +1,21 @@
+package com.pitterpetter.loventure.territory.domain.coupleregion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * couple_region 일괄 쓰기 (JPA 엔티티를 거치지 않는 SQL)
+ */
+public interface CoupleRegionRepositoryCustom {
+
+    /**
+     * 여러 Region을 한 문장으로 해금 (INSERT ... ON CONFLICT (couple_id, region_id) DO UPDATE)
+     * - 새 행은 unlockedAt으로 해금, 잠겨 있던 행은 unlockedAt으로 해금, 이미 해금된 행은 기존 해금 시각 유지
+     * - regionIds에 중복이 있으면 안 됨 (같은 행을 한 문장에서 두 번 갱신할 수 없음)
+     */
+    List<UnlockedRow> upsertUnlocked(String coupleId, Collection<String> regionIds, LocalDateTime unlockedAt);
+
+    record UnlockedRow(String regionId, boolean locked, LocalDateTime unlockedAt) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.pitterpetter.loventure.territory.domain.coupleregion;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * CoupleRegionRepositoryCustom 구현 (Spring Data 커스텀 조각)
+ * - CoupleRegion은 IDENTITY 키라 JPA 배치 INSERT가 되지 않으므로 unnest 배열로 한 문장에 처리
+ * - JdbcTemplate은 JpaTransactionManager의 같은 커넥션을 사용해 서비스 트랜잭션에 참여
+ */
+@RequiredArgsConstructor
+class CoupleRegionRepositoryImpl implements CoupleRegionRepositoryCustom {
+
+    private static final String UPSERT_UNLOCKED_SQL = """
+        INSERT INTO couple_region (couple_id, region_id, is_locked, unlocked_at, created_at, updated_at)
+        SELECT ?, ids.region_id, false, ?, ?, ?
+        FROM unnest(?::text[]) AS ids(region_id)
+        ON CONFLICT (couple_id, region_id) DO UPDATE
+            SET is_locked   = false,
+                unlocked_at = CASE WHEN couple_region.is_locked THEN EXCLUDED.unlocked_at ELSE couple_region.unlocked_at END,
+                updated_at  = CASE WHEN couple_region.is_locked THEN EXCLUDED.updated_at ELSE couple_region.updated_at END
+        RETURNING region_id, is_locked, unlocked_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UnlockedRow> upsertUnlocked(String coupleId, Collection<String> regionIds, LocalDateTime unlockedAt) {
+        if (regionIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(unlockedAt);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_UNLOCKED_SQL);
+            ps.setString(1, coupleId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setArray(5, connection.createArrayOf("text", regionIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> {
+            Timestamp unlocked = rs.getTimestamp("unlocked_at");
+            return new UnlockedRow(
+                    rs.getString("region_id"),
+                    rs.getBoolean("is_locked"),
+                    unlocked == null ? null : unlocked.toLocalDateTime());
+        });
+    }
+}
@@ -0,0 +1,97 @@
+package com.pitterpetter.loventure.territory.domain.coupleregion;
+
+import java.util.Arrays;
+
+/**
+ * 커플별 해금 상태 비트셋 (불변)
+ * - bit n = Region ordinal n 해금 여부 (ordinal은 RegionSpatialIndex 기준)
+ * - 해금은 비트를 켜기만 하므로 병합은 항상 OR
+ */
+public final class UnlockBitset {
+
+    private static final UnlockBitset EMPTY = new UnlockBitset(new long[0]);
+
+    private final long[] words;
+
+    private UnlockBitset(long[] words) {
+        this.words = words;
+    }
+
+    public static UnlockBitset empty() {
+        return EMPTY;
+    }
+
+    public static UnlockBitset of(int... ordinals) {
+        return EMPTY.with(ordinals);
+    }
+
+    /**
+     * Redis 비트맵(GET 결과)으로부터 생성
+     * - Redis는 offset n을 byte n/8의 상위 비트부터 채움
+     * - bitOffset 이전 비트(완료 표시 등)는 건너뛰고 bitOffset을 ordinal 0으로 간주
+     */
+    public static UnlockBitset fromRedisBitmap(byte[] bitmap, int bitOffset) {
+        if (bitmap == null) {
+            return EMPTY;
+        }
+        int bitCount = bitmap.length * Byte.SIZE - bitOffset;
+        long[] words = new long[Math.max(0, (bitCount + Long.SIZE - 1) / Long.SIZE)];
+        for (int ordinal = 0; ordinal < bitCount; ordinal++) {
+            int offset = ordinal + bitOffset;
+            if ((bitmap[offset >>> 3] & (0x80 >>> (offset & 7))) != 0) {
+                words[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return new UnlockBitset(words);
+    }
+
+    public boolean isUnlocked(int ordinal) {
+        int word = ordinal >>> 6;
+        return ordinal >= 0 && word < words.length && (words[word] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * ordinal들을 해금 처리한 새 비트셋
+     * - 추가할 ordinal이 없으면(빈 입력, 음수만) 자기 자신을 그대로 반환
+     */
+    public UnlockBitset with(int... ordinals) {
+        int maxOrdinal = -1;
+        for (int ordinal : ordinals) {
+            maxOrdinal = Math.max(maxOrdinal, ordinal);
+        }
+        if (maxOrdinal < 0) {
+            return this;
+        }
+        long[] merged = Arrays.copyOf(words, Math.max(words.length, (maxOrdinal >>> 6) + 1));
+        for (int ordinal : ordinals) {
+            if (ordinal >= 0) {
+                merged[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+        return new UnlockBitset(merged);
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * 해금된 ordinal 목록 (오름차순)
+     */
+    public int[] ordinals() {
+        int[] ordinals = new int[cardinality()];
+        int index = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                ordinals[index++] = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return ordinals;
+    }
+}
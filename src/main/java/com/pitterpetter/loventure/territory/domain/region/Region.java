@@ -29,6 +29,36 @@ public class Region {
     @JsonProperty("parent") // ✅ JSON의 parent → DB 컬럼 si_do로 매핑
     private String si_do;    // 상위 시/도
 
-    @Column(name = "geom", columnDefinition = "geometry(MultiPolygon,4326)")
-    private MultiPolygon geom; // ✅ PostGIS Geometry
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @PrimaryKeyJoinColumn
+    private RegionGeometry geometry; // ✅ PostGIS Geometry (같은 행, 필요할 때만 로딩)
+
+    // ✅ 적재 시 geom에서 미리 계산해 두는 값 (목록 조회는 geom 없이 RegionOverview로)
+    @Column(name = "centroid_lat")
+    private Double centroidLat; // 중심 위도
+
+    @Column(name = "centroid_lng")
+    private Double centroidLng; // 중심 경도
+
+    @Column(name = "min_lng")
+    private Double minLng; // 경계 상자
+
+    @Column(name = "min_lat")
+    private Double minLat;
+
+    @Column(name = "max_lng")
+    private Double maxLng;
+
+    @Column(name = "max_lat")
+    private Double maxLat;
+
+    @Column(name = "area_m2")
+    private Double areaM2; // 면적 (㎡, 구면 기준)
+
+    /**
+     * 행정 경계 (geometry가 아직 로딩되지 않았다면 이 시점에 조회)
+     */
+    public MultiPolygon getGeom() {
+        return geometry == null ? null : geometry.getGeom();
+    }
 }
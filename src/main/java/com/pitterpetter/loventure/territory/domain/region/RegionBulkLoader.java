@@ -0,0 +1,392 @@
+package com.pitterpetter.loventure.territory.domain.region;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.util.GeometryFixer;
+import org.locationtech.jts.geom.util.PolygonExtracter;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBWriter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+import com.pitterpetter.loventure.territory.util.GeoJsonFeatureReader;
+import com.pitterpetter.loventure.territory.util.GeoJsonUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GeoJSON → region 테이블 적재기
+ * - Feature를 스트리밍으로 읽어 chunk 단위로 나누고, chunk별 geometry 보정 + EWKB 변환은 작업 스레드에서 병렬 처리
+ * - 변환된 chunk는 읽은 순서대로 COPY(CSV)로 임시 테이블에 흘려보낸 뒤 region에 한 번에 upsert
+ * - 원본 파일 SHA-256을 region_source에 기록해 두고 같으면 적재를 건너뜀
+ * - 여러 인스턴스가 동시에 부팅해도 advisory lock으로 한 곳에서만 적재
+ * - 중심 좌표·경계 상자·면적 컬럼은 upsert 시 geom에서 계산 (기존 행은 ensureSchema에서 비어 있을 때만 채움)
+ */
+@Slf4j
+@Component
+public class RegionBulkLoader {
+
+    private static final long LOAD_LOCK_KEY = 0x7465_7272_6974_6f72L; // "territor"
+    private static final String COPY_SQL =
+            "COPY region_staging (sig_cd, si_do, gu_si, geom) FROM STDIN WITH (FORMAT csv)";
+    private static final String DERIVED_COLUMNS = """
+            ST_Y(ST_Centroid(geom)), ST_X(ST_Centroid(geom)),
+            ST_XMin(geom), ST_YMin(geom), ST_XMax(geom), ST_YMax(geom),
+            ST_Area(geom::geography)""";
+    private static final List<String> DERIVED_COLUMN_NAMES = List.of(
+            "centroid_lat", "centroid_lng", "min_lng", "min_lat", "max_lng", "max_lat", "area_m2");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public RegionBulkLoader(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${territory.region.loader.chunk-size:64}") int chunkSize,
+                            @Value("${territory.region.loader.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 적재 결과 (skipped == true 이면 같은 내용이 이미 적재되어 있어 건너뜀)
+     */
+    public record LoadResult(boolean skipped, int featureCount, String contentHash) {
+    }
+
+    /**
+     * region/region_source 테이블 준비 후 source 내용이 바뀌었을 때만 적재
+     */
+    public LoadResult load(Resource source) throws IOException {
+        ensureSchema();
+
+        String sourceName = source.getFilename();
+        String contentHash = sha256(source);
+        if (isLoaded(sourceName, contentHash)) {
+            return new LoadResult(true, 0, contentHash);
+        }
+
+        Integer loaded = transactionTemplate.execute(status -> {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> { }, LOAD_LOCK_KEY);
+            // 잠금을 기다리는 동안 다른 인스턴스가 적재했을 수 있음
+            if (isLoaded(sourceName, contentHash)) {
+                return null;
+            }
+            jdbcTemplate.execute("""
+                CREATE TEMP TABLE region_staging (
+                    sig_cd VARCHAR(10),
+                    si_do VARCHAR(30),
+                    gu_si VARCHAR(30),
+                    geom geometry(MultiPolygon, 4326)
+                ) ON COMMIT DROP
+            """);
+
+            int featureCount = copyFeatures(source);
+
+            jdbcTemplate.update("""
+                INSERT INTO region (id, sig_cd, si_do, gu_si, geom,
+                                    centroid_lat, centroid_lng, min_lng, min_lat, max_lng, max_lat, area_m2)
+                SELECT DISTINCT ON (sig_cd) sig_cd, sig_cd, si_do, gu_si, geom,
+                       %s
+                FROM region_staging
+                WHERE sig_cd IS NOT NULL
+                ORDER BY sig_cd
+                ON CONFLICT (sig_cd) DO UPDATE
+                SET si_do = EXCLUDED.si_do,
+                    gu_si = EXCLUDED.gu_si,
+                    geom = EXCLUDED.geom,
+                    centroid_lat = EXCLUDED.centroid_lat,
+                    centroid_lng = EXCLUDED.centroid_lng,
+                    min_lng = EXCLUDED.min_lng,
+                    min_lat = EXCLUDED.min_lat,
+                    max_lng = EXCLUDED.max_lng,
+                    max_lat = EXCLUDED.max_lat,
+                    area_m2 = EXCLUDED.area_m2
+            """.formatted(DERIVED_COLUMNS));
+            jdbcTemplate.update("""
+                INSERT INTO region_source (name, content_hash, feature_count, loaded_at)
+                VALUES (?, ?, ?, now())
+                ON CONFLICT (name) DO UPDATE
+                SET content_hash = EXCLUDED.content_hash,
+                    feature_count = EXCLUDED.feature_count,
+                    loaded_at = EXCLUDED.loaded_at
+            """, sourceName, contentHash, featureCount);
+            return featureCount;
+        });
+
+        return loaded == null
+                ? new LoadResult(true, 0, contentHash)
+                : new LoadResult(false, loaded, contentHash);
+    }
+
+    /**
+     * region/region_source 스키마 확인 후 필요할 때만 생성·보완
+     * - 이미 준비된 경우(대부분의 부팅)는 information_schema 조회만 하고 DDL·UPDATE를 실행하지 않음
+     * - 생성·컬럼 추가·파생 컬럼 채우기는 적재와 같은 advisory lock을 잡은 트랜잭션에서 한 인스턴스만 수행
+     */
+    private void ensureSchema() {
+        if (schemaReady()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> { }, LOAD_LOCK_KEY);
+            // 잠금을 기다리는 동안 다른 인스턴스가 준비했을 수 있음
+            if (schemaReady()) {
+                return;
+            }
+            createSchema();
+        });
+    }
+
+    private boolean schemaReady() {
+        if (derivedColumnCount() < DERIVED_COLUMN_NAMES.size()) {
+            return false;
+        }
+        Boolean ready = jdbcTemplate.queryForObject("""
+            SELECT to_regclass('region_source') IS NOT NULL
+               AND NOT EXISTS (
+                   SELECT 1 FROM region
+                   WHERE centroid_lat IS NULL AND geom IS NOT NULL AND NOT ST_IsEmpty(geom)
+               )
+        """, Boolean.class);
+        return Boolean.TRUE.equals(ready);
+    }
+
+    /**
+     * region 테이블에 있는 파생 컬럼 수 (테이블이 없으면 0)
+     */
+    private int derivedColumnCount() {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT count(*) FROM information_schema.columns
+            WHERE table_schema = current_schema() AND table_name = 'region' AND column_name IN (%s)
+        """.formatted(DERIVED_COLUMN_NAMES.stream().map(name -> "'" + name + "'").collect(Collectors.joining(", "))),
+                Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private void createSchema() {
+        // PostGIS 확장 활성화 (geometry 타입보다 먼저)
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS postgis;");
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS region (
+                id VARCHAR(255) PRIMARY KEY,
+                sig_cd VARCHAR(10) UNIQUE,
+                si_do VARCHAR(30),
+                gu_si VARCHAR(30),
+                geom geometry(MultiPolygon, 4326),
+                centroid_lat DOUBLE PRECISION,
+                centroid_lng DOUBLE PRECISION,
+                min_lng DOUBLE PRECISION,
+                min_lat DOUBLE PRECISION,
+                max_lng DOUBLE PRECISION,
+                max_lat DOUBLE PRECISION,
+                area_m2 DOUBLE PRECISION
+            );
+        """);
+        // 이전 스키마로 만들어진 region 테이블 보완 (컬럼이 빠진 경우에만 ALTER)
+        if (derivedColumnCount() < DERIVED_COLUMN_NAMES.size()) {
+            jdbcTemplate.execute("""
+                ALTER TABLE region
+                    ADD COLUMN IF NOT EXISTS centroid_lat DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS centroid_lng DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS min_lng DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS min_lat DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS max_lng DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS max_lat DOUBLE PRECISION,
+                    ADD COLUMN IF NOT EXISTS area_m2 DOUBLE PRECISION;
+            """);
+            log.info("✅ region 파생 컬럼 추가");
+        }
+        int backfilled = jdbcTemplate.update("""
+            UPDATE region
+            SET (centroid_lat, centroid_lng, min_lng, min_lat, max_lng, max_lat, area_m2) = (%s)
+            WHERE centroid_lat IS NULL AND geom IS NOT NULL AND NOT ST_IsEmpty(geom)
+        """.formatted(DERIVED_COLUMNS));
+        if (backfilled > 0) {
+            log.info("✅ region 중심 좌표·경계 상자·면적 채움 ({}개)", backfilled);
+        }
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS region_source (
+                name VARCHAR(255) PRIMARY KEY,
+                content_hash CHAR(64) NOT NULL,
+                feature_count INT NOT NULL,
+                loaded_at TIMESTAMP NOT NULL
+            );
+        """);
+    }
+
+    private boolean isLoaded(String sourceName, String contentHash) {
+        List<String> hashes = jdbcTemplate.queryForList(
+                "SELECT content_hash FROM region_source WHERE name = ?", String.class, sourceName);
+        return !hashes.isEmpty() && contentHash.equals(hashes.get(0));
+    }
+
+    /**
+     * Feature 스트리밍 → chunk별 병렬 변환 → 순서대로 COPY
+     * - 동시에 변환 중인 chunk는 parallelism * 2개까지만 유지해 메모리 사용량을 제한
+     */
+    private int copyFeatures(Resource source) {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+            int featureCount = 0;
+            try (GeoJsonFeatureReader reader = GeoJsonFeatureReader.open(source.getInputStream())) {
+                Deque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>();
+                List<JsonNode> chunk = new ArrayList<>(chunkSize);
+                while (reader.hasNext()) {
+                    chunk.add(reader.next());
+                    featureCount++;
+                    if (chunk.size() == chunkSize) {
+                        inFlight.add(convertAsync(chunk, executor));
+                        chunk = new ArrayList<>(chunkSize);
+                    }
+                    if (inFlight.size() >= parallelism * 2) {
+                        write(copyIn, inFlight.poll());
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    inFlight.add(convertAsync(chunk, executor));
+                }
+                while (!inFlight.isEmpty()) {
+                    write(copyIn, inFlight.poll());
+                }
+                copyIn.endCopy();
+                return featureCount;
+            } catch (IOException e) {
+                cancelQuietly(copyIn);
+                throw new UncheckedIOException(e);
+            } catch (SQLException | RuntimeException e) {
+                cancelQuietly(copyIn);
+                throw e;
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    private static void cancelQuietly(CopyIn copyIn) {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException e) {
+            log.warn("⚠️ COPY 취소 실패: {}", e.getMessage());
+        }
+    }
+
+    private static CompletableFuture<byte[]> convertAsync(List<JsonNode> features, ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> toCsv(features), executor);
+    }
+
+    private static void write(CopyIn copyIn, CompletableFuture<byte[]> converted) throws SQLException {
+        byte[] rows;
+        try {
+            rows = converted.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        copyIn.writeToCopy(rows, 0, rows.length);
+    }
+
+    /**
+     * Feature chunk → COPY CSV 행 (sig_cd, si_do, gu_si, EWKB hex)
+     * - 속성 키는 기존 적재 SQL과 같이 sig_cd/SIG_CD, name_ko/SIG_KOR_NM, parent/CTP_KOR_NM 순으로 탐색
+     * - 유효하지 않은 geometry는 GeometryFixer로 보정 (기존 ST_MakeValid 대체)
+     */
+    private static byte[] toCsv(List<JsonNode> features) {
+        GeometryFactory factory = RegionSpatialIndex.geometryFactory();
+        WKBWriter wkbWriter = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN, true);
+        StringBuilder csv = new StringBuilder(features.size() * 4096);
+        for (JsonNode feature : features) {
+            JsonNode properties = feature.path("properties");
+            String sigCd = text(properties, "sig_cd", "SIG_CD");
+            MultiPolygon geom;
+            try {
+                geom = valid(GeoJsonUtils.toMultiPolygon(feature.path("geometry"), factory), factory);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 지역 geometry (sig_cd=" + sigCd + "): " + e.getMessage(), e);
+            }
+            geom.setSRID(RegionSpatialIndex.SRID);
+
+            appendCsv(csv, sigCd).append(',');
+            appendCsv(csv, text(properties, "parent", "CTP_KOR_NM")).append(',');
+            appendCsv(csv, text(properties, "name_ko", "SIG_KOR_NM")).append(',');
+            csv.append(WKBWriter.toHex(wkbWriter.write(geom))).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MultiPolygon valid(MultiPolygon geom, GeometryFactory factory) {
+        if (geom.isValid()) {
+            return geom;
+        }
+        Geometry fixed = GeometryFixer.fix(geom);
+        if (fixed instanceof MultiPolygon multiPolygon) {
+            return multiPolygon;
+        }
+        @SuppressWarnings("unchecked")
+        List<Polygon> polygons = PolygonExtracter.getPolygons(fixed);
+        return factory.createMultiPolygon(polygons.toArray(Polygon[]::new));
+    }
+
+    private static String text(JsonNode properties, String key, String fallbackKey) {
+        JsonNode value = properties.hasNonNull(key) ? properties.get(key) : properties.get(fallbackKey);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * CSV 값 (null은 빈 값 → NULL, 그 외는 큰따옴표로 감싸고 내부 큰따옴표는 두 번)
+     */
+    private static StringBuilder appendCsv(StringBuilder csv, String value) {
+        if (value == null) {
+            return csv;
+        }
+        return csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static String sha256(Resource source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+        try (InputStream in = new DigestInputStream(source.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,9 @@
+package com.pitterpetter.loventure.territory.domain.region;
+
+/**
+ * region 테이블 적재(또는 적재 확인)가 끝났음을 알리는 이벤트
+ * - PostgisTestRunner가 부팅 시 발행
+ * - 인메모리 지역 구조(공간 인덱스 등)는 이 시점에 구축
+ */
+public record RegionDataLoadedEvent() {
+}
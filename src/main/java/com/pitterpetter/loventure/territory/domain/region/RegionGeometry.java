@@ -0,0 +1,26 @@
+package com.pitterpetter.loventure.territory.domain.region;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.locationtech.jts.geom.MultiPolygon;
+
+/**
+ * region 테이블의 geom 컬럼만 담는 엔티티
+ * - Region과 같은 행을 공유하며 Region.geometry(LAZY)로만 접근
+ * - 이름/코드만 필요한 조회(해금, 좌표 판별 응답)에서 WKB 역직렬화를 피하기 위해 분리
+ */
+@Entity
+@Table(name = "region")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionGeometry {
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "geom", columnDefinition = "geometry(MultiPolygon,4326)")
+    private MultiPolygon geom; // ✅ PostGIS Geometry
+}
@@ -0,0 +1,20 @@
+package com.pitterpetter.loventure.territory.domain.region;
+
+/**
+ * geom을 읽지 않는 Region 목록용 projection
+ * - 중심 좌표·경계 상자·면적은 RegionBulkLoader가 적재 시 계산해 둔 컬럼
+ */
+public record RegionOverview(
+        String id,
+        String sigCd,
+        String siDo,
+        String guSi,
+        Double centroidLat,
+        Double centroidLng,
+        Double minLng,
+        Double minLat,
+        Double maxLng,
+        Double maxLat,
+        Double areaM2
+) {
+}
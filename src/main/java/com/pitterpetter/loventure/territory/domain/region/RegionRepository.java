@@ -1,5 +1,6 @@
 package com.pitterpetter.loventure.territory.domain.region;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +12,8 @@ public interface RegionRepository extends JpaRepository<Region, String> {
      * ✅ 위도/경도 좌표로 포함된 Region 찾기 (PostGIS)
      */
     @Query("""
-        SELECT r FROM Region r
-        WHERE ST_Contains(r.geom, ST_GeomFromText(:point, 4326)) = true
+        SELECT r FROM Region r JOIN r.geometry g
+        WHERE ST_Contains(g.geom, ST_GeomFromText(:point, 4326)) = true
     """)
     Optional<Region> findRegionByPoint(@Param("point") String point);
 
@@ -26,4 +27,40 @@ public interface RegionRepository extends JpaRepository<Region, String> {
      */
     @Query("SELECT r FROM Region r WHERE r.gu_si = :name")
     Optional<Region> findByGuSi(@Param("name") String name);
+
+    /**
+     * ✅ id로 이름/코드만 조회 (geom 로딩 없음)
+     */
+    @Query("SELECT r.id AS id, r.sigCd AS sigCd, r.si_do AS siDo, r.gu_si AS guSi FROM Region r WHERE r.id = :id")
+    Optional<RegionSummaryView> findSummaryById(@Param("id") String id);
+
+    /**
+     * ✅ 행정코드로 이름/코드만 조회 (geom 로딩 없음)
+     */
+    @Query("SELECT r.id AS id, r.sigCd AS sigCd, r.si_do AS siDo, r.gu_si AS guSi FROM Region r WHERE r.sigCd = :sigCd")
+    Optional<RegionSummaryView> findSummaryBySigCd(@Param("sigCd") String sigCd);
+
+    /**
+     * ✅ 구/시 이름으로 이름/코드만 조회 (geom 로딩 없음)
+     */
+    @Query("SELECT r.id AS id, r.sigCd AS sigCd, r.si_do AS siDo, r.gu_si AS guSi FROM Region r WHERE r.gu_si = :name")
+    Optional<RegionSummaryView> findSummaryByGuSi(@Param("name") String name);
+
+    /**
+     * ✅ geometry까지 한 번에 조회 (인메모리 공간 인덱스·스냅샷 구성용)
+     */
+    @Query("SELECT r FROM Region r JOIN FETCH r.geometry ORDER BY r.id")
+    List<Region> findAllWithGeometry();
+
+    /**
+     * ✅ 목록용 Region 요약 (geom 제외, 미리 계산된 중심 좌표·경계 상자·면적)
+     */
+    @Query("""
+        SELECT new com.pitterpetter.loventure.territory.domain.region.RegionOverview(
+            r.id, r.sigCd, r.si_do, r.gu_si, r.centroidLat, r.centroidLng,
+            r.minLng, r.minLat, r.maxLng, r.maxLat, r.areaM2)
+        FROM Region r
+        ORDER BY r.id
+    """)
+    List<RegionOverview> findAllOverviews();
 }
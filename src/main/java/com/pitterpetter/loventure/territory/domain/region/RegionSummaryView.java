@@ -0,0 +1,15 @@
+package com.pitterpetter.loventure.territory.domain.region;
+
+/**
+ * Region 이름/코드 projection (geom 및 계산 컬럼 제외)
+ */
+public interface RegionSummaryView {
+
+    String getId();
+
+    String getSigCd();
+
+    String getSiDo();
+
+    String getGuSi();
+}
@@ -0,0 +1,28 @@
+package com.pitterpetter.loventure.territory.dto;
+
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 좌표 일괄 조회 요청
+ * {
+ *   "points": [[127.0276, 37.4979], [126.9780, 37.5665]]
+ * }
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchLookupRequest {
+
+    public static final int MAX_POINTS = 10_000;  // 한 요청에서 조회할 수 있는 최대 좌표 수
+
+    @Size(max = MAX_POINTS, message = "한 번에 조회할 수 있는 좌표는 최대 {max}개입니다.")
+    private List<double[]> points;  // [lon, lat] 쌍 목록
+}
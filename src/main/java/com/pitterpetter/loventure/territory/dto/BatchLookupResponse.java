@@ -0,0 +1,14 @@
+package com.pitterpetter.loventure.territory.dto;
+
+import java.util.List;
+
+/**
+ * 좌표 일괄 조회 응답 (results는 요청 좌표 순서와 동일)
+ */
+public record BatchLookupResponse(int count, int coveredCount, List<LookupResponse> results) {
+
+    public static BatchLookupResponse of(List<LookupResponse> results) {
+        int covered = (int) results.stream().filter(LookupResponse::inCoverage).count();
+        return new BatchLookupResponse(results.size(), covered, results);
+    }
+}
@@ -1,6 +1,8 @@
 package com.pitterpetter.loventure.territory.dto;
 
 import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionOverview;
+import com.pitterpetter.loventure.territory.domain.region.RegionSummaryView;
 
 public record RegionSummary(String id, String sigCd, String guSi, String siDo) {
 
@@ -13,6 +15,24 @@ public record RegionSummary(String id, String sigCd, String guSi, String siDo) {
         );
     }
 
+    public static RegionSummary from(RegionOverview region) {
+        return new RegionSummary(
+            region.id(),
+            region.sigCd(),
+            region.guSi(),
+            region.siDo()
+        );
+    }
+
+    public static RegionSummary from(RegionSummaryView region) {
+        return new RegionSummary(
+            region.getId(),
+            region.getSigCd(),
+            region.getGuSi(),
+            region.getSiDo()
+        );
+    }
+
     public static RegionSummary empty() {
         return new RegionSummary(null, null, null, null);
     }
@@ -19,6 +19,10 @@ public record UnlockResponse(String coupleId,
         );
     }
 
+    public static UnlockResponse of(String coupleId, RegionSummary region, boolean locked, LocalDateTime unlockedAt) {
+        return new UnlockResponse(coupleId, region, !locked, toInstant(unlockedAt));
+    }
+
     private static Instant toInstant(LocalDateTime value) {
         return value == null ? null : value.atZone(ZoneId.systemDefault()).toInstant();
     }
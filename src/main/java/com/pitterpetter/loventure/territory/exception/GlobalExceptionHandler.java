@@ -2,6 +2,7 @@ package com.pitterpetter.loventure.territory.exception;
 
 import java.util.Map;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -21,6 +22,16 @@ public class GlobalExceptionHandler {
             .body(Map.of("error", ErrorCode.INVALID_REQUEST.name(), "message", exception.getMessage()));
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<?> handleInvalidArgument(MethodArgumentNotValidException exception) {
+        String message = exception.getBindingResult().getFieldErrors().stream()
+            .findFirst()
+            .map(error -> error.getField() + ": " + error.getDefaultMessage())
+            .orElse(ErrorCode.INVALID_REQUEST.getMessage());
+        return ResponseEntity.badRequest()
+            .body(Map.of("error", ErrorCode.INVALID_REQUEST.name(), "message", message));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleAny(Exception exception) {
         return ResponseEntity.internalServerError()
@@ -0,0 +1,93 @@
+package com.pitterpetter.loventure.territory.infra;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pitterpetter.loventure.territory.util.TokenDigests;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ResilientAuthClient.verifyToken 앞단 검증기
+ * - 검증 성공 결과만 짧은 TTL 동안 캐시 (실패는 캐시하지 않아 바로 재시도 가능)
+ * - 같은 토큰의 동시 검증은 하나의 Auth 호출로 합치고 나머지는 그 결과를 기다림 (single-flight)
+ * - 실패 시 원래 예외(FeignException, ApiException 등)를 그대로 던져 호출 측 처리 방식 유지
+ */
+@Slf4j
+@Component
+public class AuthTokenVerifier {
+
+    private static final String CACHE_NAME = "authVerifiedTokens";
+
+    private final ResilientAuthClient authClient;
+    private final Cache<String, Boolean> verifiedTokens;
+    private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCalls;
+
+    public AuthTokenVerifier(ResilientAuthClient authClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${territory.auth.verify.cache-ttl:30s}") Duration cacheTtl,
+                             @Value("${territory.auth.verify.cache-max-size:10000}") long cacheMaxSize) {
+        this.authClient = authClient;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, CACHE_NAME);
+        this.coalescedCalls = Counter.builder("territory.auth.verify.coalesced")
+                .description("Token verifications that waited on an in-flight Auth call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Authorization 헤더 값(Bearer 토큰) 검증
+     */
+    public void verify(String token) {
+        String key = TokenDigests.sha256(token);
+        if (verifiedTokens.getIfPresent(key) != null) {
+            return;
+        }
+
+        CompletableFuture<Void> call = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            await(existing);
+            return;
+        }
+
+        try {
+            authClient.verifyToken(token);
+            verifiedTokens.put(key, Boolean.TRUE);
+            call.complete(null);
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> call) {
+        try {
+            call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pitterpetter.loventure.territory.infra;
+
+import org.springframework.stereotype.Component;
+
+import com.pitterpetter.loventure.territory.exception.ApiException;
+import com.pitterpetter.loventure.territory.exception.ErrorCode;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AuthClient 호출 보호 래퍼
+ * - Bulkhead: Auth 동시 호출 수 제한, 한도 초과 시 대기 없이 거절해 요청 스레드가 묶이지 않도록 함
+ * - CircuitBreaker: Auth 장애(5xx/타임아웃)가 이어지면 호출하지 않고 바로 실패
+ * - 거절은 AUTH_SERVICE_UNAVAILABLE(503)로, 그 외 예외(FeignException 등)는 그대로 전달
+ * - 연결/응답 타임아웃과 커넥션 풀은 spring.cloud.openfeign 설정(application.yml)에서 관리
+ * - 호출별 지연/결과는 territory.auth.client{operation, outcome} 타이머로 노출
+ */
+@Slf4j
+@Component
+public class ResilientAuthClient {
+
+    public static final String INSTANCE = "authService";
+
+    private final AuthClient authClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientAuthClient(AuthClient authClient,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry,
+                               MeterRegistry meterRegistry) {
+        this.authClient = authClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void verifyToken(String token) {
+        call("verifyToken", () -> authClient.verifyToken(token));
+    }
+
+    public void consumeTicketAndCompleteRock(String coupleId, String token) {
+        call("consumeTicketAndCompleteRock", () -> authClient.consumeTicketAndCompleteRock(coupleId, token));
+    }
+
+    private void call(String operation, Runnable call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            Bulkhead.decorateRunnable(bulkhead, CircuitBreaker.decorateRunnable(circuitBreaker, call)).run();
+        } catch (CallNotPermittedException e) {
+            outcome = "circuit_open";
+            log.warn("⛔ Auth 서비스 서킷 오픈 - {} 호출 차단", operation);
+            throw new ApiException(ErrorCode.AUTH_SERVICE_UNAVAILABLE);
+        } catch (BulkheadFullException e) {
+            outcome = "bulkhead_full";
+            log.warn("⛔ Auth 서비스 동시 호출 한도 초과 - {} 호출 거절", operation);
+            throw new ApiException(ErrorCode.AUTH_SERVICE_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("territory.auth.client")
+                    .description("Calls from Territory to the Auth service")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.pitterpetter.loventure.territory.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pitterpetter.loventure.territory.config.CacheInvalidationBus;
+import com.pitterpetter.loventure.territory.domain.coupleregion.CoupleRegionRepository;
+import com.pitterpetter.loventure.territory.domain.coupleregion.UnlockBitset;
+import com.pitterpetter.loventure.territory.spatial.RegionEntry;
+import com.pitterpetter.loventure.territory.spatial.RegionLocator;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 커플별 해금 상태 비트셋 캐시
+ * - 1차: 로컬 Caffeine 캐시 (크기·TTL 제한)
+ * - 2차: Redis 비트맵 (couple:unlocked:{ordinal 배치}:{coupleId})
+ * - 둘 다 없으면 couple_region에서 해금된 region id만 조회해 채움
+ * - 해금 반영 시 CacheInvalidationBus로 다른 인스턴스의 로컬 비트셋 제거 (유실 대비 로컬 TTL 유지)
+ *
+ * Redis 비트맵의 offset 0은 "DB 기준으로 채워진 완전한 비트맵" 표시이고, Region ordinal n은 offset n+1
+ * 해금은 비트를 켜기만 하므로 모든 쓰기를 SETBIT(OR)로 처리해 동시 갱신에도 비트가 유실되지 않음
+ * 완료 표시가 없는 비트맵(해금 쓰기만 먼저 도착한 경우)은 미스로 보고 DB 기준으로 다시 채움
+ *
+ * 로컬 미스 시 Redis/DB 조회 지연은 territory.unlock.state.load{source} 타이머로 노출
+ */
+@Slf4j
+@Service
+public class CoupleUnlockStateCache {
+
+    private static final String CACHE_NAME = "coupleUnlockState";
+    private static final String KEY_PREFIX = "couple:unlocked:";
+    private static final int COMPLETE_MARKER_OFFSET = 0;
+    private static final int ORDINAL_OFFSET = 1;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CoupleRegionRepository coupleRegionRepository;
+    private final RegionLocator regionLocator;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<String, UnlockBitset> localCache;
+    private final Duration redisTtl;
+    private final Timer redisLoadTimer;
+    private final Timer databaseLoadTimer;
+
+    public CoupleUnlockStateCache(StringRedisTemplate stringRedisTemplate,
+                                  CoupleRegionRepository coupleRegionRepository,
+                                  RegionLocator regionLocator,
+                                  CacheInvalidationBus cacheInvalidationBus,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${territory.unlock-state.local.max-size:100000}") long localMaxSize,
+                                  @Value("${territory.unlock-state.local.ttl:10s}") Duration localTtl,
+                                  @Value("${territory.unlock-state.redis.ttl:24h}") Duration redisTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.coupleRegionRepository = coupleRegionRepository;
+        this.regionLocator = regionLocator;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.redisTtl = redisTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+        this.redisLoadTimer = loadTimer(meterRegistry, "redis");
+        this.databaseLoadTimer = loadTimer(meterRegistry, "database");
+        cacheInvalidationBus.subscribe(CACHE_NAME, this::evictLocal);
+    }
+
+    /**
+     * 커플이 해당 Region을 해금했는지 확인
+     * - 공간 인덱스 구축 전에는 couple_region 단건 조회로 대체
+     */
+    public boolean isUnlocked(String coupleId, String regionId) {
+        Optional<RegionSpatialIndex> index = regionLocator.currentIndex();
+        if (index.isEmpty()) {
+            return coupleRegionRepository.findByCoupleIdAndRegion_Id(coupleId, regionId)
+                    .map(cr -> !cr.isLocked())
+                    .orElse(false);
+        }
+        return index.get().findById(regionId)
+                .map(entry -> get(index.get(), coupleId).isUnlocked(entry.ordinal()))
+                .orElse(false);
+    }
+
+    /**
+     * 커플이 해금한 region id 집합
+     * - 공간 인덱스 구축 전에는 couple_region 조회로 대체
+     */
+    public Set<String> unlockedRegionIds(String coupleId) {
+        Optional<RegionSpatialIndex> current = regionLocator.currentIndex();
+        if (current.isEmpty()) {
+            return Set.copyOf(coupleRegionRepository.findUnlockedRegionIds(coupleId));
+        }
+        RegionSpatialIndex index = current.get();
+        Set<String> regionIds = new HashSet<>();
+        for (int ordinal : get(index, coupleId).ordinals()) {
+            if (ordinal < index.size()) {
+                regionIds.add(index.entries().get(ordinal).region().getId());
+            }
+        }
+        return regionIds;
+    }
+
+    /**
+     * 커플 해금 상태 버전 (해금 상태로 만든 결과를 캐시할 때 키에 포함)
+     * - 해금은 비트를 켜기만 하므로 해금 수가 곧 단조 증가하는 버전
+     * - Region 레이아웃이 바뀌면 ordinal이 달라지므로 레이아웃 버전도 포함
+     * - 공간 인덱스 구축 전에는 couple_region 조회로 대체
+     */
+    public String version(String coupleId) {
+        Optional<RegionSpatialIndex> current = regionLocator.currentIndex();
+        if (current.isEmpty()) {
+            return "db:" + coupleRegionRepository.findUnlockedRegionIds(coupleId).size();
+        }
+        RegionSpatialIndex index = current.get();
+        return index.layoutVersion() + ":" + get(index, coupleId).cardinality();
+    }
+
+    /**
+     * 커플 해금 비트셋 조회 (로컬 → Redis → DB)
+     */
+    public UnlockBitset get(RegionSpatialIndex index, String coupleId) {
+        String key = key(index, coupleId);
+        return localCache.get(key, k -> loadFromRedisOrDatabase(index, k, coupleId));
+    }
+
+    /**
+     * 해금 반영
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 해금이 캐시에 남지 않도록 함
+     */
+    public void markUnlocked(String coupleId, Collection<String> regionIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyUnlocked(coupleId, regionIds);
+                }
+            });
+            return;
+        }
+        applyUnlocked(coupleId, regionIds);
+    }
+
+    private void applyUnlocked(String coupleId, Collection<String> regionIds) {
+        Optional<RegionSpatialIndex> current = regionLocator.currentIndex();
+        if (current.isEmpty()) {
+            return;
+        }
+        RegionSpatialIndex index = current.get();
+        int[] ordinals = regionIds.stream()
+                .map(index::findById)
+                .flatMap(Optional::stream)
+                .mapToInt(RegionEntry::ordinal)
+                .toArray();
+        if (ordinals.length == 0) {
+            return;
+        }
+
+        String key = key(index, coupleId);
+        localCache.asMap().computeIfPresent(key, (k, bitset) -> bitset.with(ordinals));
+        try {
+            setBits(key, ordinals, false);
+        } catch (Exception e) {
+            // Redis 반영 실패 시 다른 인스턴스가 오래된 비트맵을 읽지 않도록 제거 시도
+            log.error("❌ Redis 해금 비트맵 갱신 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
+            evictRedisQuietly(key);
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, coupleId);
+    }
+
+    /**
+     * 다른 인스턴스의 해금 반영 수신 시 로컬 비트셋 제거 (coupleId == null 이면 전체)
+     */
+    private void evictLocal(String coupleId) {
+        if (coupleId == null) {
+            localCache.invalidateAll();
+            return;
+        }
+        regionLocator.currentIndex().ifPresent(index -> localCache.invalidate(key(index, coupleId)));
+    }
+
+    private UnlockBitset loadFromRedisOrDatabase(RegionSpatialIndex index, String key, String coupleId) {
+        try {
+            byte[] bitmap = redisLoadTimer.record(() -> stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8))));
+            if (isComplete(bitmap)) {
+                return UnlockBitset.fromRedisBitmap(bitmap, ORDINAL_OFFSET);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Redis 해금 비트맵 조회 실패, DB 조회로 대체 - coupleId: {}, error: {}", coupleId, e.getMessage());
+        }
+
+        List<String> unlockedRegionIds = databaseLoadTimer.record(
+                () -> coupleRegionRepository.findUnlockedRegionIds(coupleId));
+        int[] ordinals = unlockedRegionIds.stream()
+                .map(index::findById)
+                .flatMap(Optional::stream)
+                .mapToInt(RegionEntry::ordinal)
+                .toArray();
+        UnlockBitset bitset = UnlockBitset.of(ordinals);
+
+        try {
+            setBits(key, ordinals, true);
+        } catch (Exception e) {
+            log.warn("⚠️ Redis 해금 비트맵 저장 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
+        }
+        return bitset;
+    }
+
+    private void setBits(String key, int[] ordinals, boolean complete) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            writeBits(connection, rawKey, ordinals, complete);
+            return null;
+        });
+    }
+
+    private void writeBits(RedisConnection connection, byte[] rawKey, int[] ordinals, boolean complete) {
+        for (int ordinal : ordinals) {
+            connection.stringCommands().setBit(rawKey, (long) ordinal + ORDINAL_OFFSET, true);
+        }
+        if (complete) {
+            connection.stringCommands().setBit(rawKey, COMPLETE_MARKER_OFFSET, true);
+        }
+        connection.keyCommands().expire(rawKey, redisTtl.toSeconds());
+    }
+
+    private void evictRedisQuietly(String key) {
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (Exception ignored) {
+            // Redis 장애 시에는 TTL 만료에 맡김
+        }
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("territory.unlock.state.load")
+                .description("Latency of loading a couple's unlock bitset after a local cache miss")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    private static boolean isComplete(byte[] bitmap) {
+        return bitmap != null && bitmap.length > 0 && (bitmap[0] & 0x80) != 0;
+    }
+
+    private static String key(RegionSpatialIndex index, String coupleId) {
+        return KEY_PREFIX + index.layoutVersion() + ":" + coupleId;
+    }
+}
@@ -1,77 +1,204 @@
 package com.pitterpetter.loventure.territory.service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Redis 기반 티켓 관리 서비스
- * - Gateway에서 전달받은 티켓 정보를 Redis에 저장
+ * - Gateway에서 전달받은 티켓 수는 차감 스크립트 안에서 반영: Redis에 값이 없으면(만료 포함) 초기값,
+ *   마지막으로 반영한 값(synced)보다 크면 늘어난 만큼만 잔여 수에 더함 (같거나 작은 값은 잔여 수를 되돌리지 않음)
  * - 실제 티켓 검증 로직 구현
+ * - 차감은 Lua 스크립트로 검증·차감·멱등 키 기록을 원자적으로 처리
+ * - 티켓 수는 커플별 Hash(couple:tickets:{coupleId}, field = count/synced)에 정수 문자열로 저장 (JSON 직렬화 없음, HINCRBY 사용)
+ * - 커플별 키에는 원천(Gateway 값·setTicketCount)에서 받은 시점부터 ticketTtl 만료를 걸어 오래된 잔여 수가 남지 않게 함
+ *   (차감은 만료를 연장하지 않음, 만료 후 첫 요청에서 Gateway 값으로 다시 채움)
+ * - 여러 커플 조회·저장은 파이프라인으로 한 번에 전송
+ * - Redis 호출별 지연/결과는 territory.redis.ticket{operation, outcome} 타이머,
+ *   잔여 티켓 부족 거절은 territory.ticket.rejections{source=redis} 카운터로 노출
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisTicketService {
     
-    private final RedisTemplate<String, Object> redisTemplate;
-    private static final String TICKET_KEY_PREFIX = "couple:ticket:";
-    private static final Duration TICKET_CACHE_TTL = Duration.ofHours(24); // 24시간 캐시
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+    private static final String TICKETS_KEY_PREFIX = "couple:tickets:";     // Hash: count → 티켓 수
+    private static final String COUNT_FIELD = "count";
+    private static final String SYNCED_FIELD = "synced";                  // 마지막으로 반영한 원천 티켓 수
+    private static final String CONSUMED_KEY_PREFIX = "couple:ticket:consumed:";
+    private static final Duration IDEMPOTENCY_TTL = Duration.ofHours(24);   // 같은 요청 재시도 허용 기간
+
+    private static final RedisScript<Long> CONSUME_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/consume_ticket.lua"), Long.class);
+    private static final RedisScript<Long> REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/refund_ticket.lua"), Long.class);
+
+    private final Duration ticketTtl;
+
+    public RedisTicketService(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                              @Value("${territory.ticket.ttl:1d}") Duration ticketTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.ticketTtl = ticketTtl;
+        this.rejections = Counter.builder("territory.ticket.rejections")
+                .description("Unlock requests rejected for lack of tickets")
+                .tag("source", "redis")
+                .register(meterRegistry);
+    }
     
     /**
-     * Redis에 티켓 개수 저장
+     * Redis에 티켓 개수 저장 (만료 시간 재설정)
      */
     public void setTicketCount(String coupleId, int ticketCount) {
         try {
-            String key = TICKET_KEY_PREFIX + coupleId;
-            redisTemplate.opsForValue().set(key, ticketCount, TICKET_CACHE_TTL);
-            log.info("🎟️ Redis에 티켓 정보 저장 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
+            timed("set", () -> pipelined(operations -> putCount(operations, coupleId, ticketCount)));
+            if (log.isDebugEnabled()) {
+                log.debug("🎟️ Redis에 티켓 정보 저장 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
+            }
         } catch (Exception e) {
             log.error("❌ Redis 티켓 저장 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
         }
     }
+
+    /**
+     * 여러 커플의 티켓 개수를 한 번에 저장 (파이프라인 1회)
+     */
+    public void setTicketCounts(Map<String, Integer> ticketCounts) {
+        if (ticketCounts.isEmpty()) {
+            return;
+        }
+        try {
+            timed("set_all", () -> pipelined(operations ->
+                    ticketCounts.forEach((coupleId, count) -> putCount(operations, coupleId, count))));
+            if (log.isDebugEnabled()) {
+                log.debug("🎟️ Redis에 티켓 정보 일괄 저장 - {}건", ticketCounts.size());
+            }
+        } catch (Exception e) {
+            log.error("❌ Redis 티켓 일괄 저장 실패 - {}건, error: {}", ticketCounts.size(), e.getMessage());
+        }
+    }
     
     /**
      * Redis에서 티켓 개수 조회
      */
     public Integer getTicketCount(String coupleId) {
         try {
-            String key = TICKET_KEY_PREFIX + coupleId;
-            Object ticketCount = redisTemplate.opsForValue().get(key);
-            if (ticketCount instanceof Integer) {
-                log.debug("🎟️ Redis에서 티켓 정보 조회 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
-                return (Integer) ticketCount;
-            }
-            return null;
+            Integer ticketCount = parseCount(timed("get",
+                    () -> stringRedisTemplate.<String, String>opsForHash().get(ticketsKey(coupleId), COUNT_FIELD)));
+            log.debug("🎟️ Redis에서 티켓 정보 조회 - coupleId: {}, ticketCount: {}", coupleId, ticketCount);
+            return ticketCount;
         } catch (Exception e) {
             log.error("❌ Redis 티켓 조회 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
             return null;
         }
     }
+
+    /**
+     * 여러 커플의 티켓 개수를 한 번에 조회 (파이프라인 1회)
+     * - 정보가 없는 커플은 결과에서 제외
+     */
+    public Map<String, Integer> getTicketCounts(Collection<String> coupleIds) {
+        if (coupleIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> keys = List.copyOf(coupleIds);
+        try {
+            List<Object> values = timed("get_all", () -> pipelined(operations ->
+                    keys.forEach(coupleId -> operations.opsForHash().get(ticketsKey(coupleId), COUNT_FIELD))));
+            Map<String, Integer> ticketCounts = new HashMap<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                Integer count = parseCount((String) values.get(i));
+                if (count != null) {
+                    ticketCounts.put(keys.get(i), count);
+                }
+            }
+            return ticketCounts;
+        } catch (Exception e) {
+            log.error("❌ Redis 티켓 일괄 조회 실패 - {}건, error: {}", keys.size(), e.getMessage());
+            return Map.of();
+        }
+    }
     
     /**
      * Redis에서 티켓 차감
      */
     public boolean consumeTicket(String coupleId) {
         try {
-            String key = TICKET_KEY_PREFIX + coupleId;
-            Long result = redisTemplate.opsForValue().decrement(key);
-            if (result != null && result >= 0) {
-                log.info("🎟️ Redis에서 티켓 차감 성공 - coupleId: {}, 남은 티켓: {}", coupleId, result);
-                return true;
-            } else {
-                log.warn("❌ Redis에서 티켓 차감 실패 - 티켓 부족 - coupleId: {}, result: {}", coupleId, result);
-                return false;
-            }
+            return consumeTicket(coupleId, null, "", null).isGranted();
         } catch (Exception e) {
             log.error("❌ Redis 티켓 차감 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
             return false;
         }
     }
+
+    /**
+     * 티켓 검증 + 차감 + 멱등 키 기록을 Lua 스크립트로 한 번에 수행
+     * - 잔여 티켓이 0 이하이면 차감하지 않음 (음수로 내려가지 않음)
+     * - 같은 idempotencyKey로 다시 요청하면 추가 차감 없이 REPLAYED
+     *   (멱등 키에는 requestDigest를 저장하고, 재시도의 requestDigest가 다르면 CONFLICT)
+     * - idempotencyKey가 없으면 요청마다 새 키 사용 (재시도 구분 없음)
+     * - gatewayTicketCount는 Redis에 티켓 정보가 없으면 초기값, 마지막으로 반영한 값보다 크면 차이만큼 추가
+     * - Redis 오류는 그대로 전파
+     */
+    public TicketConsumeResult consumeTicket(String coupleId, String idempotencyKey, String requestDigest,
+                                             Integer gatewayTicketCount) {
+        String consumedKey = consumedKey(coupleId, idempotencyKey);
+        String seed = gatewayTicketCount == null ? "" : Integer.toString(gatewayTicketCount);
+        Long result = timed("consume", () -> stringRedisTemplate.execute(CONSUME_SCRIPT,
+                List.of(ticketsKey(coupleId), consumedKey),
+                String.valueOf(ticketTtl.toSeconds()), String.valueOf(IDEMPOTENCY_TTL.toSeconds()), seed, requestDigest));
+
+        if (result == null || result == -1L) {
+            rejections.increment();
+            log.warn("❌ Redis에서 티켓 차감 실패 - 티켓 부족 - coupleId: {}", coupleId);
+            return TicketConsumeResult.INSUFFICIENT;
+        }
+        if (result == -3L) {
+            log.warn("⚠️ 같은 멱등 키로 다른 요청 - coupleId: {}, idempotencyKey: {}", coupleId, idempotencyKey);
+            return TicketConsumeResult.CONFLICT;
+        }
+        if (result == -2L) {
+            log.info("🔁 이미 처리된 티켓 차감 요청 - coupleId: {}, idempotencyKey: {}", coupleId, idempotencyKey);
+            return TicketConsumeResult.REPLAYED;
+        }
+        log.debug("🎟️ Redis에서 티켓 차감 성공 - coupleId: {}, 남은 티켓: {}", coupleId, result);
+        return TicketConsumeResult.CONSUMED;
+    }
+
+    /**
+     * consumeTicket(coupleId, idempotencyKey, ...)로 차감한 티켓 되돌리기 (해금 실패 시)
+     * - 멱등 키가 남아 있는 경우에만 1장 환불하고 멱등 키 삭제
+     */
+    public void refundTicket(String coupleId, String idempotencyKey) {
+        try {
+            Long refunded = timed("refund", () -> stringRedisTemplate.execute(REFUND_SCRIPT,
+                    List.of(ticketsKey(coupleId), consumedKey(coupleId, idempotencyKey))));
+            log.info("↩️ Redis 티켓 환불 - coupleId: {}, refunded: {}", coupleId, refunded);
+        } catch (Exception e) {
+            log.error("❌ Redis 티켓 환불 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
+        }
+    }
     
     /**
      * 티켓이 있는지 확인
@@ -81,13 +208,80 @@ public class RedisTicketService {
         return ticketCount != null && ticketCount > 0;
     }
     
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("territory.redis.ticket")
+                    .description("Redis calls made for ticket bookkeeping")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void timed(String operation, Runnable call) {
+        timed(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private static Integer parseCount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 티켓 값 - value: {}", value);
+            return null;
+        }
+    }
+
+    private static String ticketsKey(String coupleId) {
+        return TICKETS_KEY_PREFIX + coupleId;
+    }
+
+    private void putCount(RedisOperations<String, String> operations, String coupleId, int ticketCount) {
+        String key = ticketsKey(coupleId);
+        String value = Integer.toString(ticketCount);
+        operations.opsForHash().putAll(key, Map.of(COUNT_FIELD, value, SYNCED_FIELD, value));
+        operations.expire(key, ticketTtl);
+    }
+
+    /**
+     * 여러 명령을 파이프라인으로 한 번에 전송하고 명령별 결과를 순서대로 반환
+     */
+    private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+        return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private static String consumedKey(String coupleId, String idempotencyKey) {
+        String requestKey = idempotencyKey == null || idempotencyKey.isBlank()
+                ? UUID.randomUUID().toString()
+                : idempotencyKey.trim();
+        return CONSUMED_KEY_PREFIX + coupleId + ":" + requestKey;
+    }
+
     /**
      * Redis에서 티켓 정보 삭제
      */
     public void deleteTicketCount(String coupleId) {
         try {
-            String key = TICKET_KEY_PREFIX + coupleId;
-            redisTemplate.delete(key);
+            timed("delete", () -> stringRedisTemplate.delete(ticketsKey(coupleId)));
             log.info("🗑️ Redis에서 티켓 정보 삭제 - coupleId: {}", coupleId);
         } catch (Exception e) {
             log.error("❌ Redis 티켓 삭제 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
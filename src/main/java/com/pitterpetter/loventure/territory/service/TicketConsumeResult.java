@@ -0,0 +1,23 @@
+package com.pitterpetter.loventure.territory.service;
+
+/**
+ * Redis 티켓 차감 결과
+ */
+public enum TicketConsumeResult {
+
+    /** 이번 요청으로 티켓 1장 차감 */
+    CONSUMED,
+
+    /** 같은 멱등 키로 이미 차감된 요청의 재시도 (추가 차감 없음) */
+    REPLAYED,
+
+    /** 같은 멱등 키로 다른 내용(해금 지역 목록)을 요청 (차감·해금 없음) */
+    CONFLICT,
+
+    /** 티켓 없음 또는 부족 */
+    INSUFFICIENT;
+
+    public boolean isGranted() {
+        return this == CONSUMED || this == REPLAYED;
+    }
+}
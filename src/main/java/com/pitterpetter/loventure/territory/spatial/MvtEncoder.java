@@ -0,0 +1,203 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Mapbox Vector Tile(v2) 인코딩 도구
+ * - 폴리곤 → 타일 좌표 geometry 명령(MoveTo/LineTo/ClosePath) 변환
+ * - vector_tile.proto 메시지를 쓰기 위한 최소한의 protobuf 기록 함수
+ */
+final class MvtEncoder {
+
+    static final int WIRE_VARINT = 0;
+    static final int WIRE_LENGTH_DELIMITED = 2;
+
+    private static final int CMD_MOVE_TO = 1;
+    private static final int CMD_LINE_TO = 2;
+    private static final int CMD_CLOSE_PATH = 7;
+
+    private MvtEncoder() {
+    }
+
+    /**
+     * 경위도 (Multi)Polygon을 타일 좌표 geometry 명령으로 변환
+     * - 정수 격자로 반올림 후 연속 중복 좌표와 면적이 0인 링은 제외
+     * - 외곽 링은 양의 면적(타일 좌표 기준 시계 방향), 내부 링은 음의 면적으로 정렬
+     * - 그릴 것이 없으면 빈 배열
+     */
+    static int[] polygonCommands(Geometry geometry, TileKey key, int extent) {
+        CommandWriter writer = new CommandWriter();
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            if (!(geometry.getGeometryN(i) instanceof Polygon polygon)) {
+                continue; // 잘라낸 결과에 섞인 선/점은 무시
+            }
+            int[] shell = project(polygon.getExteriorRing(), key, extent);
+            if (shell == null) {
+                continue;
+            }
+            writer.ring(shell, true);
+            for (int h = 0; h < polygon.getNumInteriorRing(); h++) {
+                int[] hole = project(polygon.getInteriorRingN(h), key, extent);
+                if (hole != null) {
+                    writer.ring(hole, false);
+                }
+            }
+        }
+        return writer.toArray();
+    }
+
+    private static int[] project(LineString ring, TileKey key, int extent) {
+        Coordinate[] coordinates = ring.getCoordinates();
+        int[] xy = new int[coordinates.length * 2];
+        int count = 0;
+        for (Coordinate coordinate : coordinates) {
+            int px = (int) Math.round(key.tileX(coordinate.x, extent));
+            int py = (int) Math.round(key.tileY(coordinate.y, extent));
+            if (count > 0 && xy[2 * count - 2] == px && xy[2 * count - 1] == py) {
+                continue;
+            }
+            xy[2 * count] = px;
+            xy[2 * count + 1] = py;
+            count++;
+        }
+        // 닫힘 좌표(시작점 반복)는 ClosePath로 대체
+        if (count > 1 && xy[0] == xy[2 * count - 2] && xy[1] == xy[2 * count - 1]) {
+            count--;
+        }
+        if (count < 3) {
+            return null;
+        }
+        int[] projected = Arrays.copyOf(xy, count * 2);
+        return signedArea(projected) == 0 ? null : projected;
+    }
+
+    private static long signedArea(int[] xy) {
+        int count = xy.length / 2;
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            sum += (long) xy[2 * i] * xy[2 * j + 1] - (long) xy[2 * j] * xy[2 * i + 1];
+        }
+        return sum;
+    }
+
+    private static void reverse(int[] xy) {
+        int count = xy.length / 2;
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int x = xy[2 * i];
+            int y = xy[2 * i + 1];
+            xy[2 * i] = xy[2 * j];
+            xy[2 * i + 1] = xy[2 * j + 1];
+            xy[2 * j] = x;
+            xy[2 * j + 1] = y;
+        }
+    }
+
+    private static int command(int id, int count) {
+        return (id & 0x7) | (count << 3);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    // ------------------------------------------------------------------------
+    // protobuf 기록
+    // ------------------------------------------------------------------------
+
+    static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, (field << 3) | wireType);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeUInt32(ByteArrayOutputStream out, int field, int value) {
+        writeTag(out, field, WIRE_VARINT);
+        writeVarint(out, value & 0xFFFFFFFFL);
+    }
+
+    static void writeBytes(ByteArrayOutputStream out, int field, byte[] value) {
+        writeTag(out, field, WIRE_LENGTH_DELIMITED);
+        writeVarint(out, value.length);
+        out.writeBytes(value);
+    }
+
+    static void writeString(ByteArrayOutputStream out, int field, String value) {
+        writeBytes(out, field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void writePacked(ByteArrayOutputStream out, int field, int[] values) {
+        ByteArrayOutputStream packed = new ByteArrayOutputStream(values.length * 2);
+        for (int value : values) {
+            writeVarint(packed, value & 0xFFFFFFFFL);
+        }
+        writeBytes(out, field, packed.toByteArray());
+    }
+
+    static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * 링 단위로 geometry 명령을 누적 (커서 위치는 링/폴리곤 사이에도 이어짐)
+     */
+    private static final class CommandWriter {
+
+        private int[] commands = new int[64];
+        private int size;
+        private int cursorX;
+        private int cursorY;
+
+        void ring(int[] xy, boolean exterior) {
+            long area = signedArea(xy);
+            if ((area > 0) != exterior) {
+                reverse(xy);
+            }
+            int count = xy.length / 2;
+            ensureCapacity(size + count * 2 + 3);
+
+            commands[size++] = command(CMD_MOVE_TO, 1);
+            moveCursor(xy[0], xy[1]);
+            commands[size++] = command(CMD_LINE_TO, count - 1);
+            for (int i = 1; i < count; i++) {
+                moveCursor(xy[2 * i], xy[2 * i + 1]);
+            }
+            commands[size++] = command(CMD_CLOSE_PATH, 1);
+        }
+
+        private void moveCursor(int x, int y) {
+            commands[size++] = zigZag(x - cursorX);
+            commands[size++] = zigZag(y - cursorY);
+            cursorX = x;
+            cursorY = y;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > commands.length) {
+                commands = Arrays.copyOf(commands, Math.max(required, commands.length * 2));
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(commands, size);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+
+/**
+ * 공간 인덱스에 적재된 Region 항목
+ * - ordinal: Region id 오름차순 기준의 고정 순번 (0부터)
+ * - geometry: 반복 포함 판정용 PreparedGeometry
+ */
+public record RegionEntry(int ordinal, Region region, PreparedGeometry geometry) {
+
+    public boolean contains(Point point) {
+        return geometry.contains(point);
+    }
+}
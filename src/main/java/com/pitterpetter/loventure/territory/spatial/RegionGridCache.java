@@ -0,0 +1,214 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 커버리지 범위 위의 균일 격자 셀 캐시 (불변)
+ * - 셀마다 "한 Region 내부 / 커버리지 밖 / 경계(후보 목록)" 중 하나를 미리 계산
+ * - 내부·외부 셀에 떨어진 좌표는 배열 조회 한 번으로 응답하고, 경계 셀만 후보 Region 포함 판정
+ * - 셀 판정은 닫힌 셀 전체 기준이므로 셀 경계선 위의 좌표도 RegionSpatialIndex와 동일한 결과
+ * - 셀 배열(Layout)은 RegionSnapshot에 저장해 두었다가 같은 ordinal 배치의 인덱스에 그대로 복원 가능
+ */
+public final class RegionGridCache {
+
+    private static final int OUTSIDE = -1;
+    private static final long MAX_CELLS = 4_000_000L;
+
+    private final RegionSpatialIndex index;
+    private final RegionGridStats stats;
+    private final double minX;
+    private final double minY;
+    private final double cellSize;
+    private final int cols;
+    private final int rows;
+    // >= 0: 내부 Region ordinal, OUTSIDE: 커버리지 밖, <= -2: 경계 셀 후보 목록 인덱스 (-(i + 2))
+    private final int[] cells;
+    private final int[][] boundaryCandidates;
+
+    private RegionGridCache(RegionSpatialIndex index, RegionGridStats stats, double minX, double minY, double cellSize,
+                            int cols, int rows, int[] cells, int[][] boundaryCandidates) {
+        this.index = index;
+        this.stats = stats;
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.cols = cols;
+        this.rows = rows;
+        this.cells = cells;
+        this.boundaryCandidates = boundaryCandidates;
+    }
+
+    /**
+     * 공간 인덱스 전체 범위에 cellSize(도 단위) 격자 구축
+     */
+    public static RegionGridCache build(RegionSpatialIndex index, double cellSize, RegionGridStats stats) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("cellSize must be positive: " + cellSize);
+        }
+        Envelope bounds = index.bounds();
+        int cols = Math.max(1, (int) Math.ceil(bounds.getWidth() / cellSize));
+        int rows = Math.max(1, (int) Math.ceil(bounds.getHeight() / cellSize));
+        if ((long) cols * rows > MAX_CELLS) {
+            throw new IllegalArgumentException("grid too fine: " + cols + "x" + rows + " cells");
+        }
+
+        int[] cells = new int[cols * rows];
+        List<int[]> boundaries = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            double cellMinY = bounds.getMinY() + row * cellSize;
+            for (int col = 0; col < cols; col++) {
+                double cellMinX = bounds.getMinX() + col * cellSize;
+                Envelope cellEnvelope = new Envelope(cellMinX, cellMinX + cellSize, cellMinY, cellMinY + cellSize);
+                cells[row * cols + col] = classify(index, cellEnvelope, boundaries);
+            }
+        }
+        return new RegionGridCache(index, stats, bounds.getMinX(), bounds.getMinY(), cellSize, cols, rows, cells,
+                boundaries.toArray(new int[0][]));
+    }
+
+    /**
+     * 저장해 둔 셀 배열로 격자 복원 (셀 판정 없음)
+     * - layout의 ordinal 배치가 index와 다르면 IllegalArgumentException
+     */
+    public static RegionGridCache restore(RegionSpatialIndex index, Layout layout, RegionGridStats stats) {
+        if (!layout.layoutVersion().equals(index.layoutVersion())) {
+            throw new IllegalArgumentException("grid layout " + layout.layoutVersion()
+                    + " does not match index layout " + index.layoutVersion());
+        }
+        if (layout.cells().length != layout.cols() * layout.rows()) {
+            throw new IllegalArgumentException("grid cell count mismatch: " + layout.cells().length);
+        }
+        return new RegionGridCache(index, stats, layout.minX(), layout.minY(), layout.cellSize(),
+                layout.cols(), layout.rows(), layout.cells(), layout.boundaryCandidates());
+    }
+
+    /**
+     * 저장용 셀 배열 (배열은 복사하지 않으므로 변경 금지)
+     */
+    public Layout layout() {
+        return new Layout(index.layoutVersion(), minX, minY, cellSize, cols, rows, cells, boundaryCandidates);
+    }
+
+    /**
+     * 격자 셀 배열과 위치 정보
+     * - cells: >= 0 내부 Region ordinal, -1 커버리지 밖, <= -2 경계 셀 후보 목록 인덱스 (-(i + 2))
+     */
+    public record Layout(String layoutVersion, double minX, double minY, double cellSize,
+                         int cols, int rows, int[] cells, int[][] boundaryCandidates) {
+    }
+
+    private static int classify(RegionSpatialIndex index, Envelope cellEnvelope, List<int[]> boundaries) {
+        List<RegionEntry> candidates = index.candidates(cellEnvelope);
+        if (candidates.isEmpty()) {
+            return OUTSIDE;
+        }
+
+        Geometry cell = RegionSpatialIndex.geometryFactory().toGeometry(cellEnvelope);
+        List<RegionEntry> intersecting = new ArrayList<>(candidates.size());
+        for (RegionEntry candidate : candidates) {
+            if (candidate.geometry().containsProperly(cell)) {
+                return candidate.ordinal();
+            }
+            if (candidate.geometry().intersects(cell)) {
+                intersecting.add(candidate);
+            }
+        }
+        if (intersecting.isEmpty()) {
+            return OUTSIDE;
+        }
+
+        int[] ordinals = intersecting.stream().mapToInt(RegionEntry::ordinal).toArray();
+        boundaries.add(ordinals);
+        return -(boundaries.size() - 1) - 2;
+    }
+
+    /**
+     * 좌표가 포함된 Region 항목 조회
+     */
+    public Optional<RegionEntry> locate(double lon, double lat) {
+        return locate(lon, lat, null);
+    }
+
+    /**
+     * 직전 조회 결과(hint)를 활용하는 좌표 조회
+     * - 경계 셀에서 hint가 후보에 있으면 먼저 판정
+     */
+    public Optional<RegionEntry> locate(double lon, double lat, RegionEntry hint) {
+        int col = (int) Math.floor((lon - minX) / cellSize);
+        int row = (int) Math.floor((lat - minY) / cellSize);
+        if (col < 0 || row < 0 || col >= cols || row >= rows) {
+            stats.recordOutside();
+            return Optional.empty();
+        }
+
+        int cell = cells[row * cols + col];
+        if (cell >= 0) {
+            stats.recordInterior();
+            return Optional.of(index.entries().get(cell));
+        }
+        if (cell == OUTSIDE) {
+            stats.recordOutside();
+            return Optional.empty();
+        }
+
+        stats.recordBoundary();
+        Point point = RegionSpatialIndex.createPoint(lon, lat);
+        int[] candidates = boundaryCandidates[-cell - 2];
+        int hintOrdinal = hint == null ? -1 : hint.ordinal();
+        if (hintOrdinal >= 0 && contains(candidates, hintOrdinal) && hint.contains(point)) {
+            return Optional.of(hint);
+        }
+        for (int ordinal : candidates) {
+            if (ordinal == hintOrdinal) {
+                continue;
+            }
+            RegionEntry entry = index.entries().get(ordinal);
+            if (entry.contains(point)) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean contains(int[] ordinals, int ordinal) {
+        for (int candidate : ordinals) {
+            if (candidate == ordinal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public RegionSpatialIndex index() {
+        return index;
+    }
+
+    public double cellSize() {
+        return cellSize;
+    }
+
+    public int cellCount() {
+        return cells.length;
+    }
+
+    public int boundaryCellCount() {
+        return boundaryCandidates.length;
+    }
+
+    /**
+     * 격자 배열의 대략적인 힙 사용량 (byte, 배열 헤더 16byte 기준)
+     */
+    public long estimatedMemoryBytes() {
+        long bytes = 16L + 4L * cells.length;
+        bytes += 16L + 8L * boundaryCandidates.length;
+        for (int[] candidates : boundaryCandidates) {
+            bytes += 16L + 4L * candidates.length;
+        }
+        return bytes;
+    }
+}
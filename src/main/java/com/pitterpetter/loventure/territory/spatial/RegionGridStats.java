@@ -0,0 +1,49 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RegionGridCache 조회 결과 집계
+ * - interior/outside: 기하 연산 없이 셀 값만으로 응답한 조회
+ * - boundary: 후보 Region에 대해 포함 판정을 수행한 조회
+ * - 인덱스 재구축과 무관하게 누적
+ */
+public class RegionGridStats {
+
+    private final LongAdder interiorHits = new LongAdder();
+    private final LongAdder outsideHits = new LongAdder();
+    private final LongAdder boundaryHits = new LongAdder();
+
+    void recordInterior() {
+        interiorHits.increment();
+    }
+
+    void recordOutside() {
+        outsideHits.increment();
+    }
+
+    void recordBoundary() {
+        boundaryHits.increment();
+    }
+
+    public long interiorHits() {
+        return interiorHits.sum();
+    }
+
+    public long outsideHits() {
+        return outsideHits.sum();
+    }
+
+    public long boundaryHits() {
+        return boundaryHits.sum();
+    }
+
+    /**
+     * 기하 연산 없이 응답한 조회 비율 (조회가 없으면 0)
+     */
+    public double hitRatio() {
+        long direct = interiorHits() + outsideHits();
+        long total = direct + boundaryHits();
+        return total == 0 ? 0.0 : (double) direct / total;
+    }
+}
@@ -0,0 +1,187 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionDataLoadedEvent;
+import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌표 → Region 판별기
+ * - region 적재 완료 시점에 RegionSnapshot으로 RegionSpatialIndex를 구축하고, 저장된 셀 배열로 RegionGridCache 복원
+ * - 인덱스 구축 전(부팅 직후)이나 구축 실패 시에는 PostGIS ST_Contains 쿼리로 대체
+ * - 격자 메모리 사용량과 셀 적중률은 actuator 메트릭(territory.region.grid.*)으로 노출
+ */
+@Slf4j
+@Component
+public class RegionLocator {
+
+    private final RegionRepository regionRepository;
+    private final RegionSnapshotStore regionSnapshotStore;
+    private final RegionGridStats gridStats = new RegionGridStats();
+
+    private volatile Snapshot snapshot;
+
+    public RegionLocator(RegionRepository regionRepository,
+                         RegionSnapshotStore regionSnapshotStore,
+                         MeterRegistry meterRegistry) {
+        this.regionRepository = regionRepository;
+        this.regionSnapshotStore = regionSnapshotStore;
+        registerGridMetrics(meterRegistry);
+    }
+
+    @EventListener(RegionDataLoadedEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            RegionSnapshot regions = regionSnapshotStore.current();
+            RegionSpatialIndex index = RegionSpatialIndex.of(regions.regions());
+            RegionGridCache grid = regions.gridLayout()
+                    .filter(layout -> layout.layoutVersion().equals(index.layoutVersion()))
+                    .map(layout -> RegionGridCache.restore(index, layout, gridStats))
+                    .orElse(null);
+            this.snapshot = new Snapshot(index, grid);
+
+            log.info("🗺️ Region 공간 인덱스 구축 완료 ({}개 행정구역, {}ms)",
+                    index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            if (grid != null) {
+                log.info("🗺️ Region 격자 캐시 구축 완료 (셀 크기={}°, 셀 {}개 중 경계 {}개, 약 {}KB)",
+                        grid.cellSize(), grid.cellCount(), grid.boundaryCellCount(), grid.estimatedMemoryBytes() / 1024);
+            }
+        } catch (RuntimeException e) {
+            log.error("❌ Region 공간 인덱스 구축 실패, 기존 인덱스 또는 PostGIS 조회로 대체합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 좌표가 포함된 Region 조회
+     */
+    public Optional<Region> findRegion(double lon, double lat) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current.locate(lon, lat).map(RegionEntry::region);
+        }
+        String pointWkt = String.format(Locale.US, "POINT(%f %f)", lon, lat);
+        return regionRepository.findRegionByPoint(pointWkt);
+    }
+
+    /**
+     * 여러 좌표를 한 번에 판별 (결과는 입력 순서와 동일)
+     * - 좌표를 Z-order로 정렬해 순회하며 직전에 찾은 Region을 먼저 확인
+     * - 인덱스 구축 전에는 좌표마다 PostGIS 조회로 대체
+     */
+    public List<Optional<Region>> findRegions(double[] lons, double[] lats) {
+        List<Optional<Region>> results = new ArrayList<>(Collections.nCopies(lons.length, Optional.empty()));
+        Snapshot current = snapshot;
+        if (current == null) {
+            for (int i = 0; i < lons.length; i++) {
+                results.set(i, findRegion(lons[i], lats[i]));
+            }
+            return results;
+        }
+
+        RegionEntry last = null;
+        for (int i : zOrder(lons, lats)) {
+            Optional<RegionEntry> located = current.locate(lons[i], lats[i], last);
+            if (located.isPresent()) {
+                last = located.get();
+                results.set(i, Optional.of(last.region()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 현재 인덱스 (구축 전이면 empty)
+     */
+    public Optional<RegionSpatialIndex> currentIndex() {
+        Snapshot current = snapshot;
+        return current == null ? Optional.empty() : Optional.of(current.index());
+    }
+
+    private void registerGridMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("territory.region.grid.memory", this, gridValue(RegionGridCache::estimatedMemoryBytes))
+                .description("Estimated heap footprint of the region grid cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+        Gauge.builder("territory.region.grid.cells", this, gridValue(RegionGridCache::cellCount))
+                .description("Number of cells in the region grid cache")
+                .register(meterRegistry);
+        Gauge.builder("territory.region.grid.boundary.cells", this, gridValue(RegionGridCache::boundaryCellCount))
+                .description("Number of grid cells that still need a polygon test")
+                .register(meterRegistry);
+        Gauge.builder("territory.region.grid.hit.ratio", gridStats, RegionGridStats::hitRatio)
+                .description("Share of grid lookups answered without a geometry test")
+                .register(meterRegistry);
+
+        FunctionCounter.builder("territory.region.grid.lookups", gridStats, RegionGridStats::interiorHits)
+                .tag("cell", "interior")
+                .register(meterRegistry);
+        FunctionCounter.builder("territory.region.grid.lookups", gridStats, RegionGridStats::outsideHits)
+                .tag("cell", "outside")
+                .register(meterRegistry);
+        FunctionCounter.builder("territory.region.grid.lookups", gridStats, RegionGridStats::boundaryHits)
+                .tag("cell", "boundary")
+                .register(meterRegistry);
+    }
+
+    private static ToDoubleFunction<RegionLocator> gridValue(ToDoubleFunction<RegionGridCache> metric) {
+        return locator -> {
+            Snapshot current = locator.snapshot;
+            return current == null || current.grid() == null ? 0.0 : metric.applyAsDouble(current.grid());
+        };
+    }
+
+    /**
+     * 좌표 배열의 Z-order(Morton) 순회 순서
+     * - 경위도를 각각 16bit로 양자화해 비트를 교차한 키 상위 32bit, 원래 인덱스를 하위 bit에 담아 정렬
+     */
+    private static int[] zOrder(double[] lons, double[] lats) {
+        long[] keys = new long[lons.length];
+        for (int i = 0; i < lons.length; i++) {
+            long x = (long) ((lons[i] + 180.0) / 360.0 * 0xFFFF);
+            long y = (long) ((lats[i] + 90.0) / 180.0 * 0xFFFF);
+            keys[i] = (interleave(x) | (interleave(y) << 1)) << 31 | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) (keys[i] & 0x7FFF_FFFFL);
+        }
+        return order;
+    }
+
+    private static long interleave(long value) {
+        long v = value & 0xFFFFL;
+        v = (v | (v << 8)) & 0x00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0FL;
+        v = (v | (v << 2)) & 0x33333333L;
+        v = (v | (v << 1)) & 0x55555555L;
+        return v;
+    }
+
+    private record Snapshot(RegionSpatialIndex index, RegionGridCache grid) {
+
+        Optional<RegionEntry> locate(double lon, double lat) {
+            return locate(lon, lat, null);
+        }
+
+        Optional<RegionEntry> locate(double lon, double lat, RegionEntry hint) {
+            return grid != null ? grid.locate(lon, lat, hint) : index.locate(lon, lat, hint);
+        }
+    }
+}
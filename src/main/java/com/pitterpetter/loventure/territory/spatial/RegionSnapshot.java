@@ -0,0 +1,279 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionGeometry;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ * Region 데이터 바이너리 스냅샷 (불변)
+ * - Region(id, sigCd, 시/도, 구/군, WKB geometry)과 격자 셀 배열(RegionGridCache.Layout)을 한 파일에 저장
+ * - 부팅 시 파일을 메모리 매핑해 읽으므로 Hibernate 조회와 격자 셀 판정 없이 공간 인덱스·Feature 캐시를 구성
+ * - 중심 좌표·면적 등 목록용 값은 region 컬럼(RegionOverview)에 있으므로 저장하지 않음
+ * - 원본 GeoJSON의 SHA-256(sourceHash), 격자 설정(사용 여부·셀 크기), 본문 CRC32가 모두 맞을 때만 사용하고,
+ *   아니면 DB 경로로 대체 (격자 설정을 바꾸면 이전 설정으로 만든 셀 배열을 쓰지 않고 다시 구성)
+ *
+ * 파일 구조 (big-endian)
+ * <pre>
+ * int magic, int version, long crc32(본문), 본문:
+ *   str sourceHash, byte gridEnabled, double gridCellSize, int regionCount,
+ *   regionCount × (str id, str sigCd, str siDo, str guSi, int wkbLength, byte[] wkb),
+ *   byte hasGrid, [str layoutVersion, double minX, double minY, double cellSize, int cols, int rows,
+ *                  int[cols × rows] cells, int boundaryCount, boundaryCount × (int length, int[] ordinals)]
+ * str = int 길이(-1 이면 null) + UTF-8 바이트
+ * </pre>
+ */
+@Slf4j
+public final class RegionSnapshot {
+
+    private static final int MAGIC = 0x54525253; // "TRRS"
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+
+    private final String sourceHash;
+    private final GridSettings gridSettings;
+    private final List<Region> regions;
+    private final RegionGridCache.Layout gridLayout;
+
+    /**
+     * 스냅샷을 만들 때 적용한 격자 설정 (territory.spatial.grid.*)
+     */
+    public record GridSettings(boolean enabled, double cellSize) {
+    }
+
+    private RegionSnapshot(String sourceHash, GridSettings gridSettings, List<Region> regions,
+                           RegionGridCache.Layout gridLayout) {
+        this.sourceHash = sourceHash;
+        this.gridSettings = gridSettings;
+        this.regions = regions;
+        this.gridLayout = gridLayout;
+    }
+
+    /**
+     * Region 목록으로 스냅샷 구성 (id 오름차순 정렬)
+     */
+    public static RegionSnapshot of(String sourceHash, GridSettings gridSettings, Collection<Region> regions,
+                                    RegionGridCache.Layout gridLayout) {
+        List<Region> sorted = regions.stream()
+                .sorted(Comparator.comparing(Region::getId))
+                .toList();
+        return new RegionSnapshot(sourceHash, gridSettings, sorted, gridLayout);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑해 읽기
+     * - 파일이 없거나, 형식/CRC32가 맞지 않거나, 원본 해시·격자 설정이 다르면 empty
+     */
+    public static Optional<RegionSnapshot> read(Path path, String expectedSourceHash, GridSettings expectedGridSettings) {
+        if (!Files.isRegularFile(path)) {
+            log.info("📦 Region 스냅샷 없음: {}", path);
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("⚠️ Region 스냅샷 형식이 다릅니다, DB에서 다시 구성합니다: {}", path);
+                return Optional.empty();
+            }
+            long expectedCrc = buffer.getLong();
+            ByteBuffer body = buffer.slice();
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                log.warn("⚠️ Region 스냅샷 체크섬 불일치, DB에서 다시 구성합니다: {}", path);
+                return Optional.empty();
+            }
+
+            String sourceHash = readString(body);
+            if (!expectedSourceHash.equals(sourceHash)) {
+                log.info("📦 Region 스냅샷 원본이 바뀌었습니다 (스냅샷={}, 현재={})", sourceHash, expectedSourceHash);
+                return Optional.empty();
+            }
+            GridSettings gridSettings = new GridSettings(body.get() == 1, body.getDouble());
+            if (!expectedGridSettings.equals(gridSettings)) {
+                log.info("📦 Region 스냅샷 격자 설정이 바뀌었습니다 (스냅샷={}, 현재={})", gridSettings, expectedGridSettings);
+                return Optional.empty();
+            }
+            return Optional.of(readBody(body, sourceHash, gridSettings));
+        } catch (IOException | ParseException | BufferUnderflowException | IllegalArgumentException e) {
+            log.warn("⚠️ Region 스냅샷 읽기 실패, DB에서 다시 구성합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static RegionSnapshot readBody(ByteBuffer body, String sourceHash, GridSettings gridSettings)
+            throws ParseException {
+        int count = body.getInt();
+        WKBReader wkbReader = new WKBReader(RegionSpatialIndex.geometryFactory());
+        List<Region> regions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = readString(body);
+            String sigCd = readString(body);
+            String siDo = readString(body);
+            String guSi = readString(body);
+            byte[] wkb = new byte[body.getInt()];
+            body.get(wkb);
+            MultiPolygon geom = wkb.length == 0 ? null : (MultiPolygon) wkbReader.read(wkb);
+            if (geom != null) {
+                geom.setSRID(RegionSpatialIndex.SRID);
+            }
+            regions.add(Region.builder().id(id).sigCd(sigCd).si_do(siDo).gu_si(guSi)
+                    .geometry(new RegionGeometry(id, geom))
+                    .build());
+        }
+
+        RegionGridCache.Layout gridLayout = null;
+        if (body.get() == 1) {
+            String layoutVersion = readString(body);
+            double minX = body.getDouble();
+            double minY = body.getDouble();
+            double cellSize = body.getDouble();
+            int cols = body.getInt();
+            int rows = body.getInt();
+            int[] cells = readInts(body, cols * rows);
+            int[][] boundaryCandidates = new int[body.getInt()][];
+            for (int i = 0; i < boundaryCandidates.length; i++) {
+                boundaryCandidates[i] = readInts(body, body.getInt());
+            }
+            gridLayout = new RegionGridCache.Layout(layoutVersion, minX, minY, cellSize, cols, rows, cells,
+                    boundaryCandidates);
+        }
+        return new RegionSnapshot(sourceHash, gridSettings, List.copyOf(regions), gridLayout);
+    }
+
+    /**
+     * 스냅샷 파일 쓰기 (임시 파일에 쓴 뒤 교체하므로 읽는 쪽은 항상 완전한 파일만 봄)
+     */
+    public void write(Path path) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(1 << 20);
+        try (DataOutputStream body = new DataOutputStream(bodyBytes)) {
+            writeBody(body);
+        }
+        byte[] payload = bodyBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(crc.getValue())
+                .flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[] {header, ByteBuffer.wrap(payload)});
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeBody(DataOutputStream out) throws IOException {
+        WKBWriter wkbWriter = new WKBWriter(2);
+        writeString(out, sourceHash);
+        out.writeByte(gridSettings.enabled() ? 1 : 0);
+        out.writeDouble(gridSettings.cellSize());
+        out.writeInt(regions.size());
+        for (Region region : regions) {
+            writeString(out, region.getId());
+            writeString(out, region.getSigCd());
+            writeString(out, region.getSi_do());
+            writeString(out, region.getGu_si());
+            byte[] wkb = region.getGeom() == null ? new byte[0] : wkbWriter.write(region.getGeom());
+            out.writeInt(wkb.length);
+            out.write(wkb);
+        }
+
+        out.writeByte(gridLayout == null ? 0 : 1);
+        if (gridLayout != null) {
+            writeString(out, gridLayout.layoutVersion());
+            out.writeDouble(gridLayout.minX());
+            out.writeDouble(gridLayout.minY());
+            out.writeDouble(gridLayout.cellSize());
+            out.writeInt(gridLayout.cols());
+            out.writeInt(gridLayout.rows());
+            for (int cell : gridLayout.cells()) {
+                out.writeInt(cell);
+            }
+            out.writeInt(gridLayout.boundaryCandidates().length);
+            for (int[] candidates : gridLayout.boundaryCandidates()) {
+                out.writeInt(candidates.length);
+                for (int ordinal : candidates) {
+                    out.writeInt(ordinal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Region 목록 (id 오름차순)
+     */
+    public List<Region> regions() {
+        return regions;
+    }
+
+    public String sourceHash() {
+        return sourceHash;
+    }
+
+    public GridSettings gridSettings() {
+        return gridSettings;
+    }
+
+    public Optional<RegionGridCache.Layout> gridLayout() {
+        return Optional.ofNullable(gridLayout);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
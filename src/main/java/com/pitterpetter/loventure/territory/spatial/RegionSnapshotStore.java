@@ -0,0 +1,100 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Region 스냅샷 보관소
+ * - 부팅 시 prepare(원본 해시)로 스냅샷 파일을 메모리 매핑해 읽고, 없거나 맞지 않으면(원본·격자 설정 변경 포함)
+ *   DB에서 구성해 파일로 저장
+ * - RegionLocator, RegionFeatureCache는 DB 조회 대신 current()의 Region 목록(geometry 포함)으로 구축
+ * - 원본 해시를 알 수 없으면(GeoJSON 파일 없음) 파일을 읽거나 쓰지 않고 DB에서만 구성
+ * - 기본 경로(/var/lib/territory)는 파드 간에 유지되는 볼륨을 마운트하는 자리 (이미지 안에는 빈 디렉터리만 있음)
+ */
+@Slf4j
+@Component
+public class RegionSnapshotStore {
+
+    private final RegionRepository regionRepository;
+    private final boolean snapshotEnabled;
+    private final Path snapshotPath;
+    private final RegionSnapshot.GridSettings gridSettings;
+
+    private volatile RegionSnapshot snapshot;
+
+    public RegionSnapshotStore(RegionRepository regionRepository,
+                               @Value("${territory.region.snapshot.enabled:true}") boolean snapshotEnabled,
+                               @Value("${territory.region.snapshot.path:/var/lib/territory/region-snapshot.bin}") Path snapshotPath,
+                               @Value("${territory.spatial.grid.enabled:true}") boolean gridEnabled,
+                               @Value("${territory.spatial.grid.cell-size:0.01}") double gridCellSize) {
+        this.regionRepository = regionRepository;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotPath = snapshotPath;
+        this.gridSettings = new RegionSnapshot.GridSettings(gridEnabled, gridCellSize);
+    }
+
+    /**
+     * 원본 해시 기준으로 스냅샷 준비 (region 적재 직후, RegionDataLoadedEvent 발행 전에 호출)
+     */
+    public synchronized RegionSnapshot prepare(String sourceHash) {
+        long startedAt = System.nanoTime();
+        Optional<RegionSnapshot> mapped = snapshotEnabled && sourceHash != null
+                ? RegionSnapshot.read(snapshotPath, sourceHash, gridSettings)
+                : Optional.empty();
+        if (mapped.isPresent()) {
+            this.snapshot = mapped.get();
+            log.info("📦 Region 스냅샷 로드 완료 ({}개 행정구역, {}ms): {}", mapped.get().regions().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), snapshotPath);
+            return mapped.get();
+        }
+
+        RegionSnapshot built = build(sourceHash);
+        this.snapshot = built;
+        log.info("📦 Region 스냅샷 DB 구성 완료 ({}개 행정구역, {}ms)", built.regions().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        if (snapshotEnabled && sourceHash != null) {
+            try {
+                built.write(snapshotPath);
+                log.info("📦 Region 스냅샷 저장 완료: {}", snapshotPath);
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ Region 스냅샷 저장 실패, 다음 부팅도 DB에서 구성합니다: {}", e.getMessage());
+            }
+        }
+        return built;
+    }
+
+    /**
+     * 현재 스냅샷 (prepare 전에 조회되면 DB에서 구성)
+     */
+    public RegionSnapshot current() {
+        RegionSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : prepare(null);
+        }
+    }
+
+    private RegionSnapshot build(String sourceHash) {
+        List<Region> regions = regionRepository.findAllWithGeometry();
+        RegionGridCache.Layout grid = null;
+        if (gridSettings.enabled()) {
+            try {
+                RegionSpatialIndex index = RegionSpatialIndex.of(regions);
+                grid = RegionGridCache.build(index, gridSettings.cellSize(), new RegionGridStats()).layout();
+            } catch (RuntimeException e) {
+                log.warn("⚠️ Region 격자 구성 실패, 격자 없이 스냅샷을 구성합니다: {}", e.getMessage());
+            }
+        }
+        return RegionSnapshot.of(sourceHash, gridSettings, regions, grid);
+    }
+}
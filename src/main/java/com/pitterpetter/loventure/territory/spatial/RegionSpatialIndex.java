@@ -0,0 +1,145 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Region 폴리곤 인메모리 공간 인덱스 (불변)
+ * - Region별 PreparedGeometry를 STRtree에 적재하여 좌표 → Region 판별을 프로세스 내에서 수행
+ * - 판정은 PostGIS ST_Contains와 동일하게 경계선 위의 점을 포함하지 않음
+ * - 생성 이후 읽기 전용이므로 여러 스레드에서 동시에 조회해도 안전
+ */
+public final class RegionSpatialIndex {
+
+    public static final int SRID = 4326;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID);
+
+    private final List<RegionEntry> entries;
+    private final Map<String, RegionEntry> entriesById;
+    private final STRtree tree;
+    private final String layoutVersion;
+
+    private RegionSpatialIndex(List<RegionEntry> entries, STRtree tree) {
+        this.entries = entries;
+        this.tree = tree;
+        Map<String, RegionEntry> byId = new LinkedHashMap<>();
+        CRC32 layout = new CRC32();
+        for (RegionEntry entry : entries) {
+            byId.put(entry.region().getId(), entry);
+            layout.update((entry.region().getId() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        this.entriesById = Map.copyOf(byId);
+        this.layoutVersion = Long.toHexString(layout.getValue());
+    }
+
+    /**
+     * Region 목록으로 인덱스 구축
+     * - geom이 없는 Region은 제외
+     * - ordinal은 Region id 오름차순으로 부여되어 같은 데이터라면 인스턴스 간 동일
+     */
+    public static RegionSpatialIndex of(Collection<Region> regions) {
+        List<Region> sorted = regions.stream()
+                .filter(region -> region.getGeom() != null && !region.getGeom().isEmpty())
+                .sorted(Comparator.comparing(Region::getId))
+                .toList();
+
+        STRtree tree = new STRtree();
+        List<RegionEntry> entries = new ArrayList<>(sorted.size());
+        for (int ordinal = 0; ordinal < sorted.size(); ordinal++) {
+            Region region = sorted.get(ordinal);
+            RegionEntry entry = new RegionEntry(ordinal, region, PreparedGeometryFactory.prepare(region.getGeom()));
+            tree.insert(region.getGeom().getEnvelopeInternal(), entry);
+            entries.add(entry);
+        }
+        tree.build();
+        return new RegionSpatialIndex(List.copyOf(entries), tree);
+    }
+
+    /**
+     * 좌표가 포함된 Region 항목 조회
+     */
+    public Optional<RegionEntry> locate(double lon, double lat) {
+        return locate(lon, lat, null);
+    }
+
+    /**
+     * 직전 조회 결과(hint)를 먼저 확인하는 좌표 조회
+     * - 인접한 좌표를 연속으로 조회할 때 트리 탐색을 생략
+     */
+    public Optional<RegionEntry> locate(double lon, double lat, RegionEntry hint) {
+        Point point = createPoint(lon, lat);
+        if (hint != null && hint.contains(point)) {
+            return Optional.of(hint);
+        }
+        for (Object candidate : tree.query(new Envelope(lon, lon, lat, lat))) {
+            RegionEntry entry = (RegionEntry) candidate;
+            if (entry.contains(point)) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Envelope과 겹치는 후보 항목 조회 (정밀 판정 전 단계)
+     */
+    public List<RegionEntry> candidates(Envelope envelope) {
+        List<RegionEntry> candidates = new ArrayList<>();
+        for (Object candidate : tree.query(envelope)) {
+            candidates.add((RegionEntry) candidate);
+        }
+        return candidates;
+    }
+
+    public Optional<RegionEntry> findById(String regionId) {
+        return Optional.ofNullable(entriesById.get(regionId));
+    }
+
+    /**
+     * ordinal 배치 식별자 (Region id 목록의 CRC32)
+     * - ordinal 기반으로 외부에 저장한 데이터(Redis 비트맵 등)의 키에 포함해 배치 변경 시 분리
+     */
+    public String layoutVersion() {
+        return layoutVersion;
+    }
+
+    public List<RegionEntry> entries() {
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Envelope bounds() {
+        Envelope bounds = new Envelope();
+        for (RegionEntry entry : entries) {
+            bounds.expandToInclude(entry.region().getGeom().getEnvelopeInternal());
+        }
+        return bounds;
+    }
+
+    public static GeometryFactory geometryFactory() {
+        return GEOMETRY_FACTORY;
+    }
+
+    public static Point createPoint(double lon, double lat) {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(lon, lat));
+    }
+}
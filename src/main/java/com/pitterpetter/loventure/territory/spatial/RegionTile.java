@@ -0,0 +1,205 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.TopologyException;
+
+import com.pitterpetter.loventure.territory.domain.coupleregion.UnlockBitset;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+
+/**
+ * 미리 인코딩한 region 레이어 벡터 타일 (불변)
+ * - 타일 영역으로 잘라낸 geometry와 id/name/city 속성은 타일 생성 시 한 번만 인코딩
+ * - Feature마다 locked=true/false 두 가지 인코딩을 준비해 두고, 요청 시 커플 해금 비트셋으로 골라 이어 붙임
+ * - 두 인코딩의 길이가 같으므로 타일 전체 길이도 미리 계산됨
+ */
+public final class RegionTile {
+
+    public static final String LAYER_NAME = "region";
+    public static final int EXTENT = 4096;
+    public static final int BUFFER = 64;
+
+    private static final int TILE_LAYERS = 3;
+    private static final int LAYER_VERSION = 15;
+    private static final int LAYER_NAME_FIELD = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_BOOL = 7;
+    private static final int GEOM_TYPE_POLYGON = 3;
+
+    private static final String[] KEYS = {"id", "name", "city", "locked"};
+    private static final int KEY_ID = 0;
+    private static final int KEY_NAME = 1;
+    private static final int KEY_CITY = 2;
+    private static final int KEY_LOCKED = 3;
+    // values 테이블의 0, 1번은 locked 속성용 false/true로 고정
+    private static final int VALUE_FALSE = 0;
+    private static final int VALUE_TRUE = 1;
+
+    private final byte[] layerHeader;
+    private final int[] ordinals;
+    private final byte[][] unlockedFeatures;
+    private final byte[][] lockedFeatures;
+    private final int layerLength;
+
+    private RegionTile(byte[] layerHeader, int[] ordinals, byte[][] unlockedFeatures, byte[][] lockedFeatures) {
+        this.layerHeader = layerHeader;
+        this.ordinals = ordinals;
+        this.unlockedFeatures = unlockedFeatures;
+        this.lockedFeatures = lockedFeatures;
+        int length = layerHeader.length;
+        for (byte[] feature : unlockedFeatures) {
+            length += feature.length;
+        }
+        this.layerLength = length;
+    }
+
+    /**
+     * 인덱스에서 타일과 겹치는 Region을 골라 타일 생성
+     * - 지도 줌에 맞는 SimplificationLevel로 단순화한 뒤 타일 좌표로 변환
+     */
+    public static RegionTile build(TileKey key, RegionSpatialIndex index) {
+        Envelope clipEnvelope = key.envelope((double) BUFFER / EXTENT);
+        Geometry clipBox = RegionSpatialIndex.geometryFactory().toGeometry(clipEnvelope);
+        SimplificationLevel level = SimplificationLevel.resolve(key.z(), null);
+
+        Map<String, Integer> values = new LinkedHashMap<>();
+        List<RegionEntry> entries = new ArrayList<>();
+        List<int[]> geometries = new ArrayList<>();
+
+        List<RegionEntry> candidates = index.candidates(clipEnvelope);
+        candidates.sort(Comparator.comparingInt(RegionEntry::ordinal));
+        for (RegionEntry entry : candidates) {
+            Geometry geometry = entry.region().getGeom();
+            Geometry clipped = clipEnvelope.contains(geometry.getEnvelopeInternal()) ? geometry : clip(geometry, clipBox);
+            if (clipped.isEmpty()) {
+                continue;
+            }
+            int[] commands = MvtEncoder.polygonCommands(level.simplify(clipped), key, EXTENT);
+            if (commands.length == 0) {
+                continue;
+            }
+            entries.add(entry);
+            geometries.add(commands);
+        }
+
+        int[] ordinals = new int[entries.size()];
+        byte[][] unlocked = new byte[entries.size()][];
+        byte[][] locked = new byte[entries.size()][];
+        for (int i = 0; i < entries.size(); i++) {
+            RegionEntry entry = entries.get(i);
+            int[] tags = tags(entry.region(), values);
+            ordinals[i] = entry.ordinal();
+            unlocked[i] = feature(tags, VALUE_FALSE, geometries.get(i));
+            locked[i] = feature(tags, VALUE_TRUE, geometries.get(i));
+        }
+        return new RegionTile(layerHeader(values), ordinals, unlocked, locked);
+    }
+
+    public int featureCount() {
+        return ordinals.length;
+    }
+
+    /**
+     * 커플 해금 상태를 locked 속성으로 반영한 타일 바이트
+     * - 그릴 Region이 없으면 빈 타일(0바이트)
+     */
+    public byte[] encode(UnlockBitset unlockState) {
+        if (ordinals.length == 0) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(layerLength + 1 + MvtEncoder.varintSize(layerLength));
+        MvtEncoder.writeTag(out, TILE_LAYERS, MvtEncoder.WIRE_LENGTH_DELIMITED);
+        MvtEncoder.writeVarint(out, layerLength);
+        out.writeBytes(layerHeader);
+        for (int i = 0; i < ordinals.length; i++) {
+            out.writeBytes(unlockState.isUnlocked(ordinals[i]) ? unlockedFeatures[i] : lockedFeatures[i]);
+        }
+        return out.toByteArray();
+    }
+
+    private static Geometry clip(Geometry geometry, Geometry clipBox) {
+        try {
+            return geometry.intersection(clipBox);
+        } catch (TopologyException e) {
+            // 자기 교차 등 비정상 폴리곤은 buffer(0)으로 정리 후 다시 자름
+            return geometry.buffer(0).intersection(clipBox);
+        }
+    }
+
+    private static int[] tags(Region region, Map<String, Integer> values) {
+        List<Integer> tags = new ArrayList<>(8);
+        tags.add(KEY_ID);
+        tags.add(valueIndex(values, region.getId()));
+        if (region.getGu_si() != null) {
+            tags.add(KEY_NAME);
+            tags.add(valueIndex(values, region.getGu_si()));
+        }
+        if (region.getSi_do() != null) {
+            tags.add(KEY_CITY);
+            tags.add(valueIndex(values, region.getSi_do()));
+        }
+        return tags.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int valueIndex(Map<String, Integer> values, String value) {
+        return values.computeIfAbsent(value, v -> values.size() + 2);
+    }
+
+    /**
+     * Layer.features 항목 하나 (필드 태그와 길이 포함)
+     * - locked 값은 tags의 마지막에 두어 두 인코딩이 값 1바이트만 다르도록 함
+     */
+    private static byte[] feature(int[] tags, int lockedValue, int[] geometry) {
+        int[] allTags = new int[tags.length + 2];
+        System.arraycopy(tags, 0, allTags, 0, tags.length);
+        allTags[tags.length] = KEY_LOCKED;
+        allTags[tags.length + 1] = lockedValue;
+
+        ByteArrayOutputStream feature = new ByteArrayOutputStream(geometry.length * 2 + 32);
+        MvtEncoder.writePacked(feature, FEATURE_TAGS, allTags);
+        MvtEncoder.writeUInt32(feature, FEATURE_TYPE, GEOM_TYPE_POLYGON);
+        MvtEncoder.writePacked(feature, FEATURE_GEOMETRY, geometry);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(feature.size() + 4);
+        MvtEncoder.writeBytes(out, LAYER_FEATURES, feature.toByteArray());
+        return out.toByteArray();
+    }
+
+    private static byte[] layerHeader(Map<String, Integer> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + values.size() * 16);
+        MvtEncoder.writeUInt32(out, LAYER_VERSION, 2);
+        MvtEncoder.writeString(out, LAYER_NAME_FIELD, LAYER_NAME);
+        for (String key : KEYS) {
+            MvtEncoder.writeString(out, LAYER_KEYS, key);
+        }
+        MvtEncoder.writeBytes(out, LAYER_VALUES, boolValue(false));
+        MvtEncoder.writeBytes(out, LAYER_VALUES, boolValue(true));
+        for (String value : values.keySet()) {
+            ByteArrayOutputStream encoded = new ByteArrayOutputStream(value.length() * 3 + 2);
+            MvtEncoder.writeString(encoded, VALUE_STRING, value);
+            MvtEncoder.writeBytes(out, LAYER_VALUES, encoded.toByteArray());
+        }
+        MvtEncoder.writeUInt32(out, LAYER_EXTENT, EXTENT);
+        return out.toByteArray();
+    }
+
+    private static byte[] boolValue(boolean value) {
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream(2);
+        MvtEncoder.writeUInt32(encoded, VALUE_BOOL, value ? 1 : 0);
+        return encoded.toByteArray();
+    }
+}
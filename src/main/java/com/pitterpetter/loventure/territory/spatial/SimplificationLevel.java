@@ -0,0 +1,115 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.coverage.CoverageSimplifier;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.precision.GeometryPrecisionReducer;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+/**
+ * 지도 축척별 Region 경계 단순화 단계
+ * - tolerance: 단순화 허용 오차 (도 단위, 0이면 원본)
+ * - decimals: GeoJSON 좌표 소수점 자릿수 (음수면 원본 정밀도)
+ * - minZoom: 이 단계를 사용하는 최소 지도 줌 레벨
+ */
+@Slf4j
+public enum SimplificationLevel {
+
+    FULL(0.0, -1, 14),      // 원본
+    HIGH(0.0001, 5, 12),    // 약 10m
+    MEDIUM(0.0005, 4, 10),  // 약 50m
+    LOW(0.002, 3, 0);       // 약 200m (시/도 단위 개요 지도)
+
+    private final double tolerance;
+    private final int decimals;
+    private final int minZoom;
+
+    SimplificationLevel(double tolerance, int decimals, int minZoom) {
+        this.tolerance = tolerance;
+        this.decimals = decimals;
+        this.minZoom = minZoom;
+    }
+
+    public double tolerance() {
+        return tolerance;
+    }
+
+    public int decimals() {
+        return decimals;
+    }
+
+    public Geometry simplify(Geometry geometry) {
+        if (tolerance <= 0 || geometry == null || geometry.isEmpty()) {
+            return geometry;
+        }
+        return TopologyPreservingSimplifier.simplify(geometry, tolerance);
+    }
+
+    /**
+     * 인접한 Region 경계 전체(커버리지)를 함께 단순화 (입력과 같은 순서로 반환)
+     * - 먼저 decimals 자릿수 격자로 정밀도를 줄인 뒤(GeometryPrecisionReducer) CoverageSimplifier로 공유 경계를 한 번만 단순화
+     * - Region마다 따로 단순화하면 이웃 구/군 경계가 서로 다르게 깎여 틈·겹침이 생기므로 Feature 캐시는 이 경로를 사용
+     * - 커버리지 단순화가 실패하면(잘못된 커버리지·위상 오류) 경고를 남기고 Region별 단순화로 대체
+     */
+    public Geometry[] simplifyCoverage(List<? extends Geometry> geometries) {
+        Geometry[] result = geometries.toArray(new Geometry[0]);
+        List<Integer> present = new ArrayList<>(result.length);
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] != null && !result[i].isEmpty()) {
+                present.add(i);
+            }
+        }
+
+        Geometry[] coverage = new Geometry[present.size()];
+        PrecisionModel precision = decimals >= 0 ? new PrecisionModel(Math.pow(10, decimals)) : null;
+        for (int i = 0; i < coverage.length; i++) {
+            Geometry geometry = result[present.get(i)];
+            coverage[i] = precision == null ? geometry : GeometryPrecisionReducer.reduce(geometry, precision);
+        }
+        if (tolerance > 0) {
+            try {
+                coverage = CoverageSimplifier.simplify(coverage, tolerance);
+            } catch (TopologyException | IllegalArgumentException e) {
+                log.warn("⚠️ 커버리지 단순화 실패, Region별 단순화로 대체 (level={}, {}개 행정구역): {}",
+                        this, coverage.length, e.getMessage(), e);
+                for (int i = 0; i < coverage.length; i++) {
+                    coverage[i] = simplify(coverage[i]);
+                }
+            }
+        }
+        for (int i = 0; i < coverage.length; i++) {
+            result[present.get(i)] = coverage[i];
+        }
+        return result;
+    }
+
+    /**
+     * 요청 파라미터로 단계 결정
+     * - tolerance가 있으면 허용 오차가 그 이하인 단계 중 가장 거친 단계
+     * - 없으면 zoom 기준, 둘 다 없으면 원본
+     */
+    public static SimplificationLevel resolve(Integer zoom, Double tolerance) {
+        if (tolerance != null) {
+            SimplificationLevel resolved = FULL;
+            for (SimplificationLevel level : values()) {
+                if (level.tolerance <= tolerance) {
+                    resolved = level;
+                }
+            }
+            return resolved;
+        }
+        if (zoom != null) {
+            for (SimplificationLevel level : values()) {
+                if (zoom >= level.minZoom) {
+                    return level;
+                }
+            }
+            return LOW;
+        }
+        return FULL;
+    }
+}
@@ -0,0 +1,59 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Web Mercator(XYZ) 타일 좌표
+ * - 경위도 ↔ 타일 내부 좌표(0..extent, y축 아래 방향) 변환
+ */
+public record TileKey(int z, int x, int y) {
+
+    public static final int MAX_ZOOM = 22;
+
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    public TileKey {
+        if (!isValid(z, x, y)) {
+            throw new IllegalArgumentException("invalid tile " + z + "/" + x + "/" + y);
+        }
+    }
+
+    public static boolean isValid(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            return false;
+        }
+        int n = 1 << z;
+        return x >= 0 && x < n && y >= 0 && y < n;
+    }
+
+    /**
+     * 타일 영역의 경위도 Envelope
+     * - bufferRatio: 타일 한 변 대비 바깥쪽 여유 비율 (경계선이 타일 가장자리에서 끊겨 보이지 않도록)
+     */
+    public Envelope envelope(double bufferRatio) {
+        double n = 1 << z;
+        return new Envelope(
+                longitude(x - bufferRatio, n), longitude(x + 1 + bufferRatio, n),
+                latitude(y + 1 + bufferRatio, n), latitude(y - bufferRatio, n));
+    }
+
+    public double tileX(double lon, int extent) {
+        double n = 1 << z;
+        return ((lon + 180.0) / 360.0 * n - x) * extent;
+    }
+
+    public double tileY(double lat, int extent) {
+        double n = 1 << z;
+        double rad = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, lat)));
+        double mercator = (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0;
+        return (mercator * n - y) * extent;
+    }
+
+    private static double longitude(double tileX, double n) {
+        return tileX / n * 360.0 - 180.0;
+    }
+
+    private static double latitude(double tileY, double n) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1.0 - 2.0 * tileY / n))));
+    }
+}
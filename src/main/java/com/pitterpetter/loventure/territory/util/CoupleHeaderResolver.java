@@ -1,26 +1,39 @@
 package com.pitterpetter.loventure.territory.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.pitterpetter.loventure.territory.exception.ApiException;
 import com.pitterpetter.loventure.territory.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT Authorization 헤더에서 coupleId를 안전하게 추출하는 Resolver.
  * - Auth 서비스에서 발급된 JWT 토큰을 Territory 서비스에서 검증 및 해석
  * - Base64 단순 디코딩이 아닌 HMAC-SHA256 서명 검증 수행
+ * - 검증한 토큰은 SHA-256 해시를 키로 coupleId와 만료 시각을 캐시 (같은 토큰 반복 요청 시 재검증 생략)
+ * - 처리 지연은 territory.jwt.resolve{result=cached|verified|rejected} 타이머로 노출
  */
 @Slf4j
 @Component
@@ -32,9 +45,33 @@ public class CoupleHeaderResolver {
             "coupleId", "couple_id", "coupleID", "couple", "couple-id"
     );
 
+    private static final long DEFAULT_CACHE_MAX_SIZE = 50_000;
+    private static final Duration DEFAULT_CACHE_MAX_TTL = Duration.ofMinutes(10);
+
     private final Key secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public CoupleHeaderResolver(String secret) {
+        this(secret, DEFAULT_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_TTL);
+    }
+
+    public CoupleHeaderResolver(String secret, long cacheMaxSize, Duration cacheMaxTtl) {
+        this(secret, cacheMaxSize, cacheMaxTtl, Metrics.globalRegistry);
+    }
 
-    public CoupleHeaderResolver(@Value("${jwt.secret}") String secret) {
+    /**
+     * @param cacheMaxSize 검증 결과 캐시 최대 토큰 수
+     * @param cacheMaxTtl  검증 결과 캐시 최대 보관 시간 (토큰 만료가 더 이르면 만료 시각까지)
+     */
+    @Autowired
+    public CoupleHeaderResolver(@Value("${jwt.secret}") String secret,
+                                @Value("${territory.jwt.cache.max-size:50000}") long cacheMaxSize,
+                                @Value("${territory.jwt.cache.max-ttl:10m}") Duration cacheMaxTtl,
+                                MeterRegistry meterRegistry) {
         Key keyTemp;
         try {
             // Auth 서비스와 동일한 secret 키(Base64 인코딩된 값)를 디코딩
@@ -47,28 +84,65 @@ public class CoupleHeaderResolver {
             log.warn("⚠️ Base64 디코딩 실패, 문자열 기반 키로 대체 (길이: {})", secret.getBytes().length);
         }
         this.secretKey = keyTemp;
+        // JwtParser는 생성 후 불변이라 여러 스레드에서 공유 가능
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry(cacheMaxTtl))
+                .build();
+        this.cachedTimer = resolveTimer(meterRegistry, "cached");
+        this.verifiedTimer = resolveTimer(meterRegistry, "verified");
+        this.rejectedTimer = resolveTimer(meterRegistry, "rejected");
     }
 
     /**
      * 요청 헤더에서 JWT를 추출하고 서명 검증 후 coupleId 반환
      */
     public String resolveCoupleId(HttpServletRequest request) {
-        String authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
+        long startedAt = System.nanoTime();
+        Timer timer = rejectedTimer;
+        try {
+            String authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
 
-        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
-            throw new ApiException(ErrorCode.AUTH_HEADER_MISSING);
-        }
+            if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+                throw new ApiException(ErrorCode.AUTH_HEADER_MISSING);
+            }
 
-        String token = authorizationHeader.substring(BEARER_PREFIX.length()).trim();
-        if (token.isEmpty()) {
-            throw new ApiException(ErrorCode.AUTH_TOKEN_INVALID);
+            String token = authorizationHeader.substring(BEARER_PREFIX.length()).trim();
+            if (token.isEmpty()) {
+                throw new ApiException(ErrorCode.AUTH_TOKEN_INVALID);
+            }
+
+            // ✅ 이미 검증한 토큰이면 서명 검증/파싱 생략 (만료 시각은 그대로 확인)
+            String tokenKey = TokenDigests.sha256(token);
+            VerifiedToken cached = verifiedTokens.getIfPresent(tokenKey);
+            if (cached != null) {
+                if (cached.isExpired(System.currentTimeMillis())) {
+                    verifiedTokens.invalidate(tokenKey);
+                    log.error("❌ JWT 토큰 만료 (캐시된 만료 시각: {})", cached.expiresAt());
+                    throw new ApiException(ErrorCode.AUTH_TOKEN_EXPIRED);
+                }
+                timer = cachedTimer;
+                return cached.coupleId();
+            }
+
+            String coupleId = verify(token, tokenKey);
+            timer = verifiedTimer;
+            return coupleId;
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
+    }
 
+    /**
+     * 서명 검증 후 coupleId 추출, 결과를 캐시에 저장
+     */
+    private String verify(String token, String tokenKey) {
         try {
             // ✅ 토큰 파싱 및 서명 검증
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
+            Claims claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
 
@@ -76,6 +150,7 @@ public class CoupleHeaderResolver {
             String coupleId = extractCoupleId(claims)
                     .orElseThrow(() -> new ApiException(ErrorCode.AUTH_TOKEN_INVALID));
 
+            verifiedTokens.put(tokenKey, new VerifiedToken(coupleId, claims.getExpiration()));
             log.debug("✅ JWT 검증 성공, coupleId = {}", coupleId);
             return coupleId;
 
@@ -104,4 +179,51 @@ public class CoupleHeaderResolver {
         return Optional.empty();
     }
 
+    /**
+     * 검증을 마친 토큰의 coupleId와 만료 시각 (exp 클레임이 없으면 expiresAt == null)
+     */
+    private record VerifiedToken(String coupleId, Date expiresAt) {
+
+        boolean isExpired(long nowMillis) {
+            return expiresAt != null && expiresAt.getTime() <= nowMillis;
+        }
+    }
+
+    private static Timer resolveTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("territory.jwt.resolve")
+                .description("Latency of resolving the coupleId from the Authorization header")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 항목을 토큰 만료 시각과 최대 보관 시간 중 이른 시점에 제거
+     */
+    private static final class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        private final long maxTtlNanos;
+
+        VerifiedTokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt() == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiry = TimeUnit.MILLISECONDS.toNanos(value.expiresAt().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
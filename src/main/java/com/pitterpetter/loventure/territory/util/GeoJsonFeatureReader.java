@@ -0,0 +1,93 @@
+package com.pitterpetter.loventure.territory.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * GeoJSON FeatureCollection 스트리밍 리더
+ * - Jackson 스트리밍 파서로 features 배열을 따라가며 Feature를 하나씩 트리로 읽음
+ * - 메모리에는 현재 Feature 하나만 올라가므로 파일 크기와 무관하게 사용 가능
+ */
+public final class GeoJsonFeatureReader implements Iterator<JsonNode>, Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonParser parser;
+    private JsonNode next;
+    private boolean finished;
+
+    private GeoJsonFeatureReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * features 배열 시작 위치까지 이동한 리더 생성 (스트림은 리더를 닫을 때 함께 닫힘)
+     */
+    public static GeoJsonFeatureReader open(InputStream in) throws IOException {
+        JsonParser parser = MAPPER.getFactory().createParser(in);
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("GeoJSON FeatureCollection 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("features".equals(field) && value == JsonToken.START_ARRAY) {
+                    return new GeoJsonFeatureReader(parser);
+                }
+                parser.skipChildren();
+            }
+            throw new IOException("GeoJSON에 features 배열이 없습니다.");
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                next = MAPPER.readTree(parser);
+                return true;
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new IOException("features 배열 원소가 객체가 아닙니다: " + token);
+            }
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public JsonNode next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        JsonNode feature = next;
+        next = null;
+        return feature;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.pitterpetter.loventure.territory.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 미리 직렬화된 Feature 조각들로 구성한 GeoJSON FeatureCollection
+ * - 조각 바이트를 그대로 이어 붙여 OutputStream에 기록 (중간 객체 없음)
+ */
+public record GeoJsonFragments(List<byte[]> features) {
+
+    private static final byte[] HEADER = "{\"type\":\"FeatureCollection\",\"features\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FOOTER = "]}".getBytes(StandardCharsets.UTF_8);
+
+    public long contentLength() {
+        long length = HEADER.length + FOOTER.length + (long) Math.max(0, features.size() - 1) * SEPARATOR.length;
+        for (byte[] feature : features) {
+            length += feature.length;
+        }
+        return length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(HEADER);
+        for (int i = 0; i < features.size(); i++) {
+            if (i > 0) {
+                out.write(SEPARATOR);
+            }
+            out.write(features.get(i));
+        }
+        out.write(FOOTER);
+    }
+}
@@ -1,21 +1,67 @@
 package com.pitterpetter.loventure.territory.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pitterpetter.loventure.territory.domain.region.Region;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 
 public final class GeoJsonUtils {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private GeoJsonUtils() {
     }
 
+    /**
+     * Region 하나를 GeoJSON Feature UTF-8 바이트로 직렬화
+     * - toFeatureCollection의 Feature와 동일한 구조를 중간 객체 없이 JsonGenerator로 바로 기록
+     */
+    public static byte[] toFeatureBytes(Region region) {
+        return toFeatureBytes(region, region.getGeom(), -1);
+    }
+
+    /**
+     * Region 속성과 지정한 geometry로 Feature 직렬화
+     * - decimals >= 0 이면 좌표를 해당 소수점 자리로 반올림하고 반올림 후 연속 중복 좌표는 생략
+     * - 반올림 후에도 링은 항상 닫고, 4개 좌표 미만으로 줄어든 링은 생략
+     */
+    public static byte[] toFeatureBytes(Region region, Geometry geometry, int decimals) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "Feature");
+
+            generator.writeObjectFieldStart("properties");
+            generator.writeStringField("id", region.getId());
+            generator.writeStringField("sigCd", region.getSigCd());
+            generator.writeStringField("siDo", region.getSi_do());
+            generator.writeStringField("guSi", region.getGu_si());
+            generator.writeEndObject();
+
+            generator.writeFieldName("geometry");
+            writeGeometry(generator, geometry, decimals);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
     public static Map<String, Object> toFeatureCollection(List<Region> regions) {
         Map<String, Object> featureCollection = new LinkedHashMap<>();
         featureCollection.put("type", "FeatureCollection");
@@ -40,6 +86,137 @@ public final class GeoJsonUtils {
         return featureCollection;
     }
 
+    /**
+     * GeoJSON Polygon/MultiPolygon geometry 노드 → JTS MultiPolygon (Polygon은 1개짜리 MultiPolygon)
+     */
+    public static MultiPolygon toMultiPolygon(JsonNode geometry, GeometryFactory factory) {
+        String type = geometry.path("type").asText();
+        JsonNode coordinates = geometry.path("coordinates");
+        if ("Polygon".equals(type)) {
+            return factory.createMultiPolygon(new Polygon[] {toPolygon(coordinates, factory)});
+        }
+        if (!"MultiPolygon".equals(type)) {
+            throw new IllegalArgumentException("Polygon/MultiPolygon이 아닌 geometry입니다: " + type);
+        }
+        Polygon[] polygons = new Polygon[coordinates.size()];
+        for (int i = 0; i < coordinates.size(); i++) {
+            polygons[i] = toPolygon(coordinates.get(i), factory);
+        }
+        return factory.createMultiPolygon(polygons);
+    }
+
+    private static Polygon toPolygon(JsonNode rings, GeometryFactory factory) {
+        LinearRing shell = toLinearRing(rings.get(0), factory);
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = toLinearRing(rings.get(i), factory);
+        }
+        return factory.createPolygon(shell, holes);
+    }
+
+    private static LinearRing toLinearRing(JsonNode positions, GeometryFactory factory) {
+        Coordinate[] coordinates = new Coordinate[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            JsonNode position = positions.get(i);
+            coordinates[i] = new Coordinate(position.get(0).asDouble(), position.get(1).asDouble());
+        }
+        return factory.createLinearRing(coordinates);
+    }
+
+    private static void writeGeometry(JsonGenerator generator, Geometry geometry, int decimals) throws IOException {
+        double scale = decimals >= 0 ? Math.pow(10, decimals) : 0;
+        generator.writeStartObject();
+        if (geometry instanceof Polygon polygon) {
+            generator.writeStringField("type", "Polygon");
+            generator.writeArrayFieldStart("coordinates");
+            List<double[]> rings = polygonRings(polygon, scale);
+            if (rings != null) {
+                writeRings(generator, rings);
+            }
+            generator.writeEndArray();
+        } else if (geometry instanceof MultiPolygon multiPolygon) {
+            generator.writeStringField("type", "MultiPolygon");
+            generator.writeArrayFieldStart("coordinates");
+            for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                List<double[]> rings = polygonRings((Polygon) multiPolygon.getGeometryN(i), scale);
+                if (rings != null) {
+                    generator.writeStartArray();
+                    writeRings(generator, rings);
+                    generator.writeEndArray();
+                }
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeStringField("type", geometry == null ? "Geometry" : geometry.getGeometryType());
+            generator.writeArrayFieldStart("coordinates");
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Polygon의 링 좌표 (외곽 링, 구멍 순)
+     * - 반올림으로 4개 좌표 미만이 된 구멍은 생략하고, 외곽 링이 그렇게 되면 Polygon 전체를 생략(null)
+     */
+    private static List<double[]> polygonRings(Polygon polygon, double scale) {
+        double[] shell = ringPositions(polygon.getExteriorRing(), scale);
+        if (shell == null) {
+            return null;
+        }
+        List<double[]> rings = new ArrayList<>(polygon.getNumInteriorRing() + 1);
+        rings.add(shell);
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            double[] hole = ringPositions(polygon.getInteriorRingN(i), scale);
+            if (hole != null) {
+                rings.add(hole);
+            }
+        }
+        return rings;
+    }
+
+    /**
+     * 링 좌표를 [x0, y0, x1, y1, ...] 로 변환
+     * - scale > 0 이면 반올림 후 연속 중복 좌표를 생략하되 닫는 좌표(첫 좌표와 같은 끝 좌표)는 항상 기록
+     * - GeoJSON LinearRing 규칙(닫힌 링, 4개 좌표 이상)을 만족하지 못하면 null
+     */
+    private static double[] ringPositions(LineString ring, double scale) {
+        Coordinate[] coordinates = ring.getCoordinates();
+        if (coordinates.length == 0) {
+            return null;
+        }
+        double[] positions = new double[(coordinates.length + 1) * 2];
+        int count = 0;
+        for (Coordinate coordinate : coordinates) {
+            double x = scale > 0 ? Math.round(coordinate.x * scale) / scale : coordinate.x;
+            double y = scale > 0 ? Math.round(coordinate.y * scale) / scale : coordinate.y;
+            if (scale > 0 && count > 0 && x == positions[count * 2 - 2] && y == positions[count * 2 - 1]) {
+                continue;
+            }
+            positions[count * 2] = x;
+            positions[count * 2 + 1] = y;
+            count++;
+        }
+        if (scale > 0 && (positions[count * 2 - 2] != positions[0] || positions[count * 2 - 1] != positions[1])) {
+            positions[count * 2] = positions[0];
+            positions[count * 2 + 1] = positions[1];
+            count++;
+        }
+        return count < 4 ? null : Arrays.copyOf(positions, count * 2);
+    }
+
+    private static void writeRings(JsonGenerator generator, List<double[]> rings) throws IOException {
+        for (double[] ring : rings) {
+            generator.writeStartArray();
+            for (int i = 0; i < ring.length; i += 2) {
+                generator.writeStartArray();
+                generator.writeNumber(ring[i]);
+                generator.writeNumber(ring[i + 1]);
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        }
+    }
+
     private static Map<String, Object> geometryToGeoJson(Geometry geometry) {
         Map<String, Object> geometryMap = new LinkedHashMap<>();
         if (geometry instanceof Polygon polygon) {
@@ -0,0 +1,43 @@
+-- 티켓 검증 + 차감 + 멱등 키 기록 (원자적으로 한 번에 실행)
+-- KEYS[1]: 커플별 티켓 해시 (couple:tickets:{coupleId}, field count = 잔여 수, synced = 마지막으로 반영한 원천 티켓 수)
+-- KEYS[2]: 멱등 키 (couple:ticket:consumed:{coupleId}:{idempotencyKey})
+-- ARGV[1]: 티켓 해시 TTL(초). 원천 값으로 채우거나 반영할 때만 설정 (차감은 만료를 연장하지 않음)
+-- ARGV[2]: 멱등 키 TTL(초)
+-- ARGV[3]: Gateway가 전달한 티켓 수 (빈 문자열 = 없음).
+--          해시에 값이 없으면 초기값, synced보다 크면 늘어난 만큼만 잔여 수에 더함 (같거나 작은 값은 무시)
+-- ARGV[4]: 요청 내용 요약(해금 지역 목록 digest). 멱등 키 값으로 저장해 재시도 내용이 같은지 비교
+-- 반환: 남은 티켓 수(>= 0), -1 = 티켓 부족, -2 = 같은 멱등 키·같은 내용으로 이미 차감됨,
+--       -3 = 같은 멱등 키로 다른 내용을 요청함
+local previous = redis.call('GET', KEYS[2])
+if previous then
+    if previous == ARGV[4] then
+        return -2
+    end
+    return -3
+end
+local tickets = tonumber(redis.call('HGET', KEYS[1], 'count'))
+local gateway = tonumber(ARGV[3])
+if tickets == nil then
+    if gateway == nil then
+        return -1
+    end
+    redis.call('HSET', KEYS[1], 'count', gateway, 'synced', gateway)
+    redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+    tickets = gateway
+elseif gateway ~= nil then
+    -- 이미 반영한 값(재시도·동시 요청·지연된 요청)은 잔여 수를 되돌리지 못하고, 새로 지급된 만큼만 더함
+    local synced = tonumber(redis.call('HGET', KEYS[1], 'synced'))
+    if synced == nil then
+        redis.call('HSET', KEYS[1], 'synced', gateway)
+    elseif gateway > synced then
+        tickets = redis.call('HINCRBY', KEYS[1], 'count', gateway - synced)
+        redis.call('HSET', KEYS[1], 'synced', gateway)
+        redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+    end
+end
+if tickets <= 0 then
+    return -1
+end
+local remaining = redis.call('HINCRBY', KEYS[1], 'count', -1)
+redis.call('SET', KEYS[2], ARGV[4], 'EX', tonumber(ARGV[2]))
+return remaining
@@ -0,0 +1,10 @@
+-- 차감 취소 (해금 실패 시): 멱등 키가 남아 있을 때만 티켓을 되돌림
+-- KEYS[1]: 커플별 티켓 해시, KEYS[2]: 멱등 키
+-- 반환: 1 = 환불, 0 = 환불할 차감 없음
+if redis.call('DEL', KEYS[2]) == 1 then
+    if redis.call('HEXISTS', KEYS[1], 'count') == 1 then
+        redis.call('HINCRBY', KEYS[1], 'count', 1)
+    end
+    return 1
+end
+return 0
@@ -0,0 +1,87 @@
+package com.pitterpetter.loventure.territory.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pitterpetter.loventure.territory.application.TerritoryService;
+import com.pitterpetter.loventure.territory.dto.BatchLookupRequest;
+import com.pitterpetter.loventure.territory.dto.BatchLookupResponse;
+import com.pitterpetter.loventure.territory.exception.GlobalExceptionHandler;
+import com.pitterpetter.loventure.territory.util.CoupleHeaderResolver;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * 좌표 일괄 조회 크기 제한 (좌표 배열을 만들기 전에 거절되는지 확인)
+ */
+class TerritoryControllerTest {
+
+    private TerritoryService territoryService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        territoryService = mock(TerritoryService.class);
+        when(territoryService.lookupBatch(any(), any())).thenReturn(BatchLookupResponse.of(List.of()));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TerritoryController(territoryService, mock(CoupleHeaderResolver.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void oversizedPackedBodyIsRejected() throws Exception {
+        byte[] body = new byte[(BatchLookupRequest.MAX_POINTS + 1) * 2 * Float.BYTES];
+
+        mockMvc.perform(post("/api/regions/lookup/batch")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_REQUEST"));
+
+        verifyNoInteractions(territoryService);
+    }
+
+    @Test
+    void packedBodyWithinLimitIsLookedUp() throws Exception {
+        ByteBuffer body = ByteBuffer.allocate(2 * 2 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                .putFloat(127.0f).putFloat(37.5f)
+                .putFloat(126.9f).putFloat(37.6f);
+
+        mockMvc.perform(post("/api/regions/lookup/batch")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(body.array()))
+                .andExpect(status().isOk());
+
+        verify(territoryService).lookupBatch(new double[] {127.0f, 126.9f}, new double[] {37.5f, 37.6f});
+    }
+
+    @Test
+    void tooManyJsonPointsAreRejected() throws Exception {
+        StringBuilder json = new StringBuilder("{\"points\":[");
+        for (int i = 0; i <= BatchLookupRequest.MAX_POINTS; i++) {
+            json.append(i == 0 ? "" : ",").append("[127.0,37.5]");
+        }
+        json.append("]}");
+
+        mockMvc.perform(post("/api/regions/lookup/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("INVALID_REQUEST"));
+
+        verifyNoInteractions(territoryService);
+    }
+}
@@ -0,0 +1,64 @@
+package com.pitterpetter.loventure.territory.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class LogSamplingInterceptorTest {
+
+    private static final String PATTERN = "/api/regions/search";
+
+    private final LoggingConfig.LogSamplingInterceptor interceptor = new LoggingConfig.LogSamplingInterceptor(
+            new LogSamplingProperties(1.0, Map.of(PATTERN, 0.0)));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void asyncStartClearsTheMarkerFromTheRequestThread() {
+        MockHttpServletRequest request = request(PATTERN);
+        interceptor.preHandle(request, response, null);
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_KEY)).isEqualTo(SampledLogTurboFilter.NOT_SAMPLED);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    void asyncDispatchKeepsTheFirstDecision() {
+        MockHttpServletRequest request = request(PATTERN);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+
+        interceptor.preHandle(request, response, null);
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_KEY)).isEqualTo(SampledLogTurboFilter.NOT_SAMPLED);
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    void sampledRequestDoesNotInheritALeftoverMarker() {
+        MDC.put(SampledLogTurboFilter.MDC_KEY, SampledLogTurboFilter.NOT_SAMPLED);
+
+        interceptor.preHandle(request("/api/regions/unlock/reward"), response, null);
+
+        assertThat(MDC.get(SampledLogTurboFilter.MDC_KEY)).isNull();
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+package com.pitterpetter.loventure.territory.domain.coupleregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pitterpetter.loventure.territory.application.RegionFeatureCache;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionRepository;
+import com.pitterpetter.loventure.territory.spatial.RegionSnapshotStore;
+import com.pitterpetter.loventure.territory.util.GeoJsonFragments;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 해금 지역 조회 쿼리 수 회귀 테스트 (PostGIS 컨테이너)
+ * - 60개 구/군을 해금한 커플의 해금 지역 조회(id 조회 + 미리 직렬화한 Feature 캐시)가 Region 로딩 없이 한 문장으로 끝나는지 확인
+ */
+@Tag("postgis")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = CoupleRegionRepositoryTest.JpaConfig.class)
+class CoupleRegionRepositoryTest {
+
+    private static final String COUPLE_ID = "couple-1";
+    private static final int UNLOCKED_DISTRICTS = 60;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"));
+
+    @Autowired
+    private CoupleRegionRepository coupleRegionRepository;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private RegionFeatureCache regionFeatureCache;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < UNLOCKED_DISTRICTS; i++) {
+            String regionId = String.format("%05d", 11000 + i);
+            double x = 126.0 + i * 0.01;
+            jdbcTemplate.update("""
+                INSERT INTO region (id, sig_cd, si_do, gu_si, geom)
+                VALUES (?, ?, '서울특별시', ?, ST_GeomFromText(?, 4326))
+            """, regionId, regionId, "구" + i, String.format(Locale.US,
+                    "MULTIPOLYGON(((%f 37, %f 37, %f 37.01, %f 37.01, %f 37)))", x, x + 0.01, x + 0.01, x, x));
+            jdbcTemplate.update("""
+                INSERT INTO couple_region (couple_id, region_id, is_locked, unlocked_at)
+                VALUES (?, ?, false, now())
+            """, COUPLE_ID, regionId);
+        }
+        entityManager.clear();
+
+        // Feature 캐시는 부팅 시 한 번 구축되므로 측정 대상에서 제외
+        regionFeatureCache = new RegionFeatureCache(new RegionSnapshotStore(regionRepository, false, null, false, 0.01));
+        regionFeatureCache.rebuild();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void unlockedRegionIdsAreReadInOneStatement() {
+        List<String> regionIds = coupleRegionRepository.findUnlockedRegionIds(COUPLE_ID);
+
+        assertThat(regionIds).hasSize(UNLOCKED_DISTRICTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void unlockedFeaturesAreServedFromOneStatement() {
+        // UnlockService#getUnlockedRegionsAsFeature 경로 (해금 비트셋 캐시 미스 시)
+        GeoJsonFragments features = regionFeatureCache.featureCollection(
+                coupleRegionRepository.findUnlockedRegionIds(COUPLE_ID));
+
+        assertThat(features.features()).hasSize(UNLOCKED_DISTRICTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /**
+     * 애플리케이션 전체(Feign 등) 대신 JPA 엔티티/리포지토리만 구성
+     */
+    @Configuration
+    @EntityScan(basePackageClasses = {CoupleRegion.class, Region.class})
+    @EnableJpaRepositories(basePackageClasses = {CoupleRegionRepository.class, RegionRepository.class})
+    static class JpaConfig {
+    }
+}
@@ -0,0 +1,69 @@
+package com.pitterpetter.loventure.territory.domain.coupleregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class UnlockBitsetTest {
+
+    @Test
+    void ofWithoutOrdinalsIsEmpty() {
+        UnlockBitset bitset = UnlockBitset.of();
+
+        assertThat(bitset).isSameAs(UnlockBitset.empty());
+        assertThat(bitset.cardinality()).isZero();
+        assertThat(bitset.ordinals()).isEmpty();
+    }
+
+    @Test
+    void ofSetsEveryGivenOrdinal() {
+        UnlockBitset bitset = UnlockBitset.of(0, 63, 64, 200, 64);
+
+        assertThat(bitset.ordinals()).containsExactly(0, 63, 64, 200);
+        assertThat(bitset.cardinality()).isEqualTo(4);
+        assertThat(bitset.isUnlocked(63)).isTrue();
+        assertThat(bitset.isUnlocked(62)).isFalse();
+    }
+
+    @Test
+    void withNothingOrOnlyNegativeOrdinalsReturnsTheSameBitset() {
+        UnlockBitset bitset = UnlockBitset.of(3);
+
+        assertThat(bitset.with()).isSameAs(bitset);
+        assertThat(bitset.with(-1, -5)).isSameAs(bitset);
+        assertThat(UnlockBitset.empty().with()).isSameAs(UnlockBitset.empty());
+    }
+
+    @Test
+    void withAddsOrdinalsWithoutChangingTheOriginal() {
+        UnlockBitset original = UnlockBitset.of(1);
+
+        UnlockBitset merged = original.with(2, 130);
+
+        assertThat(merged.ordinals()).containsExactly(1, 2, 130);
+        assertThat(original.ordinals()).containsExactly(1);
+    }
+
+    @Test
+    void ordinalsPastTheEndOrNegativeAreLocked() {
+        UnlockBitset bitset = UnlockBitset.of(5);
+
+        assertThat(bitset.isUnlocked(64)).isFalse();
+        assertThat(bitset.isUnlocked(Integer.MAX_VALUE)).isFalse();
+        assertThat(bitset.isUnlocked(-1)).isFalse();
+        assertThat(UnlockBitset.empty().isUnlocked(0)).isFalse();
+    }
+
+    @Test
+    void redisBitmapIsReadFromTheHighBitOfEachByteAfterTheOffset() {
+        // Redis offset 0 = 완료 표시, offset 1.. = ordinal 0..
+        // byte0 = 1100_0001 → offset 0, 1, 7 / byte1 = 1000_0000 → offset 8
+        byte[] bitmap = {(byte) 0b1100_0001, (byte) 0b1000_0000};
+
+        UnlockBitset bitset = UnlockBitset.fromRedisBitmap(bitmap, 1);
+
+        assertThat(bitset.ordinals()).containsExactly(0, 6, 7);
+        assertThat(UnlockBitset.fromRedisBitmap(null, 1).cardinality()).isZero();
+        assertThat(UnlockBitset.fromRedisBitmap(new byte[0], 1).cardinality()).isZero();
+    }
+}
@@ -0,0 +1,190 @@
+package com.pitterpetter.loventure.territory.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * consume_ticket.lua 동시성 테스트 (Redis 컨테이너)
+ * - 두 파트너가 같은 X-Ticket-Count로 동시에 차감해도 티켓 1장으로는 1건만 해금되는지 확인
+ */
+@Tag("redis")
+@Testcontainers(disabledWithoutDocker = true)
+class RedisTicketServiceTest {
+
+    private static final String COUPLE_ID = "couple-1";
+    private static final String DIGEST = "regions-a";
+    private static final String TICKETS_KEY = "couple:tickets:" + COUPLE_ID;
+    private static final Duration TICKET_TTL = Duration.ofHours(1);
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisTicketService redisTicketService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        redisTicketService = new RedisTicketService(redisTemplate, new SimpleMeterRegistry(), TICKET_TTL);
+    }
+
+    @Test
+    void concurrentConsumesSpendASingleGatewaySeededTicketOnce() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            redisTemplate.delete(TICKETS_KEY);
+
+            List<TicketConsumeResult> results = runConcurrently(2,
+                    () -> redisTicketService.consumeTicket(COUPLE_ID, null, DIGEST, 1));
+
+            assertThat(results).containsExactlyInAnyOrder(
+                    TicketConsumeResult.CONSUMED, TicketConsumeResult.INSUFFICIENT);
+            assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isZero();
+        }
+    }
+
+    @Test
+    void concurrentConsumesSpendAnExistingTicketOnce() throws Exception {
+        redisTicketService.setTicketCount(COUPLE_ID, 1);
+
+        List<TicketConsumeResult> results = runConcurrently(8,
+                () -> redisTicketService.consumeTicket(COUPLE_ID, null, DIGEST, 1));
+
+        assertThat(results).filteredOn(TicketConsumeResult.CONSUMED::equals).hasSize(1);
+        assertThat(results).filteredOn(TicketConsumeResult.INSUFFICIENT::equals).hasSize(7);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isZero();
+    }
+
+    @Test
+    void gatewayCountDoesNotRestoreASpentTicket() {
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "first", DIGEST, 1)).isEqualTo(TicketConsumeResult.CONSUMED);
+
+        // 이전 티켓 수를 다시 보내는 재시도(새 멱등 키)는 잔여 수를 되돌리지 못함
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "second", DIGEST, 1)).isEqualTo(TicketConsumeResult.INSUFFICIENT);
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "first", DIGEST, 1)).isEqualTo(TicketConsumeResult.REPLAYED);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isZero();
+    }
+
+    @Test
+    void higherGatewayCountGrantsOnlyTheNewTickets() {
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "first", DIGEST, 1)).isEqualTo(TicketConsumeResult.CONSUMED);
+
+        // 원천에서 2장이 새로 지급됨 (1 → 3): 이미 쓴 1장은 되돌리지 않고 늘어난 2장만 반영
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "second", DIGEST, 3)).isEqualTo(TicketConsumeResult.CONSUMED);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isEqualTo(1);
+
+        // 같은 값이나 지연된 이전 값은 다시 더하지 않음
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "third", DIGEST, 3)).isEqualTo(TicketConsumeResult.CONSUMED);
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "fourth", DIGEST, 1)).isEqualTo(TicketConsumeResult.INSUFFICIENT);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isZero();
+    }
+
+    @Test
+    void concurrentRequestsWithTheSameHigherGatewayCountGrantItOnce() throws Exception {
+        redisTicketService.setTicketCount(COUPLE_ID, 0);
+
+        List<TicketConsumeResult> results = runConcurrently(8,
+                () -> redisTicketService.consumeTicket(COUPLE_ID, null, DIGEST, 1));
+
+        assertThat(results).filteredOn(TicketConsumeResult.CONSUMED::equals).hasSize(1);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isZero();
+    }
+
+    @Test
+    void replayWithADifferentPayloadIsAConflict() {
+        redisTicketService.setTicketCount(COUPLE_ID, 5);
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "key", DIGEST, null)).isEqualTo(TicketConsumeResult.CONSUMED);
+
+        // 같은 멱등 키로 다른 지역 목록을 보내면 차감도 재실행도 없음
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "key", "regions-b", null))
+                .isEqualTo(TicketConsumeResult.CONFLICT);
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, "key", DIGEST, null)).isEqualTo(TicketConsumeResult.REPLAYED);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isEqualTo(4);
+    }
+
+    @Test
+    void ticketCountExpiresFromWhenItWasFilledNotFromTheLastConsume() {
+        redisTicketService.consumeTicket(COUPLE_ID, "first", DIGEST, 3);
+        assertThat(redisTemplate.getExpire(TICKETS_KEY)).isPositive().isLessThanOrEqualTo(TICKET_TTL.toSeconds());
+
+        // 차감은 만료를 지우거나 늘리지 않음
+        redisTemplate.expire(TICKETS_KEY, Duration.ofSeconds(30));
+        redisTicketService.consumeTicket(COUPLE_ID, "second", DIGEST, 3);
+        assertThat(redisTemplate.getExpire(TICKETS_KEY)).isBetween(1L, 30L);
+
+        redisTicketService.setTicketCounts(Map.of(COUPLE_ID, 5));
+        assertThat(redisTemplate.getExpire(TICKETS_KEY)).isGreaterThan(30L);
+        assertThat(redisTicketService.getTicketCounts(List.of(COUPLE_ID, "unknown"))).containsOnly(Map.entry(COUPLE_ID, 5));
+    }
+
+    @Test
+    void missingTicketInfoWithoutGatewayCountIsInsufficient() {
+        assertThat(redisTicketService.consumeTicket(COUPLE_ID, null, DIGEST, null)).isEqualTo(TicketConsumeResult.INSUFFICIENT);
+        assertThat(redisTicketService.getTicketCount(COUPLE_ID)).isNull();
+    }
+
+    private static <T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            List<T> results = new ArrayList<>(threads);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionGeometry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+class RegionSnapshotTest {
+
+    private static final String SOURCE_HASH = "a".repeat(64);
+    private static final RegionSnapshot.GridSettings GRID = new RegionSnapshot.GridSettings(true, 0.01);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsRegionsAndGridLayout() throws Exception {
+        RegionGridCache.Layout layout = new RegionGridCache.Layout("v1", 126.0, 37.0, 0.01, 2, 2,
+                new int[] {0, 1, -1, -2}, new int[][] {{0, 1}});
+        RegionSnapshot written = RegionSnapshot.of(SOURCE_HASH, GRID, List.of(
+                region("11140", "서울특별시", "중구", "MULTIPOLYGON(((127.0 37.5, 127.1 37.5, 127.1 37.6, 127.0 37.5)))"),
+                region("11110", "서울특별시", "종로구", "MULTIPOLYGON(((126.9 37.5, 127.0 37.5, 127.0 37.6, 126.9 37.5)))")),
+                layout);
+        Path path = directory.resolve("region-snapshot.bin");
+        written.write(path);
+
+        RegionSnapshot read = RegionSnapshot.read(path, SOURCE_HASH, GRID).orElseThrow();
+
+        assertThat(read.sourceHash()).isEqualTo(SOURCE_HASH);
+        assertThat(read.regions()).extracting(Region::getId).containsExactly("11110", "11140");
+        assertThat(read.regions()).extracting(Region::getGu_si).containsExactly("종로구", "중구");
+        for (int i = 0; i < read.regions().size(); i++) {
+            Region region = read.regions().get(i);
+            assertThat(region.getGeom().equalsExact(written.regions().get(i).getGeom())).isTrue();
+            assertThat(region.getGeom().getSRID()).isEqualTo(RegionSpatialIndex.SRID);
+        }
+
+        RegionGridCache.Layout readLayout = read.gridLayout().orElseThrow();
+        assertThat(readLayout.layoutVersion()).isEqualTo("v1");
+        assertThat(readLayout.minX()).isEqualTo(126.0);
+        assertThat(readLayout.cellSize()).isEqualTo(0.01);
+        assertThat(readLayout.cells()).containsExactly(0, 1, -1, -2);
+        assertThat(readLayout.boundaryCandidates()).isDeepEqualTo(new int[][] {{0, 1}});
+    }
+
+    @Test
+    void roundTripKeepsNullStringsMissingGeometryAndMissingGrid() throws Exception {
+        Region region = Region.builder().id("41999").sigCd(null).si_do(null).gu_si("")
+                .geometry(new RegionGeometry("41999", null))
+                .build();
+        Path path = directory.resolve("region-snapshot.bin");
+        RegionSnapshot.of(SOURCE_HASH, GRID, List.of(region), null).write(path);
+
+        RegionSnapshot read = RegionSnapshot.read(path, SOURCE_HASH, GRID).orElseThrow();
+
+        Region restored = read.regions().get(0);
+        assertThat(restored.getSigCd()).isNull();
+        assertThat(restored.getSi_do()).isNull();
+        assertThat(restored.getGu_si()).isEmpty();
+        assertThat(restored.getGeom()).isNull();
+        assertThat(read.gridLayout()).isEmpty();
+    }
+
+    @Test
+    void corruptedBodyIsRejected() throws Exception {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(path, bytes);
+
+        assertThat(RegionSnapshot.read(path, SOURCE_HASH, GRID)).isEmpty();
+    }
+
+    @Test
+    void snapshotOfAnotherSourceIsRejected() throws Exception {
+        Path path = writeSample();
+
+        assertThat(RegionSnapshot.read(path, "b".repeat(64), GRID)).isEmpty();
+    }
+
+    @Test
+    void snapshotBuiltWithOtherGridSettingsIsRejected() throws Exception {
+        Path path = writeSample();
+
+        assertThat(RegionSnapshot.read(path, SOURCE_HASH, new RegionSnapshot.GridSettings(true, 0.005))).isEmpty();
+        assertThat(RegionSnapshot.read(path, SOURCE_HASH, new RegionSnapshot.GridSettings(false, 0.01))).isEmpty();
+        assertThat(RegionSnapshot.read(path, SOURCE_HASH, GRID).orElseThrow().gridSettings()).isEqualTo(GRID);
+    }
+
+    @Test
+    void missingOrTruncatedFileIsRejected() throws Exception {
+        assertThat(RegionSnapshot.read(directory.resolve("missing.bin"), SOURCE_HASH, GRID)).isEmpty();
+
+        Path path = writeSample();
+        Files.write(path, new byte[] {0x54, 0x52});
+        Optional<RegionSnapshot> truncated = RegionSnapshot.read(path, SOURCE_HASH, GRID);
+
+        assertThat(truncated).isEmpty();
+    }
+
+    private Path writeSample() throws IOException, ParseException {
+        Path path = directory.resolve("region-snapshot.bin");
+        RegionSnapshot.of(SOURCE_HASH, GRID, List.of(
+                region("11110", "서울특별시", "종로구", "MULTIPOLYGON(((126.9 37.5, 127.0 37.5, 127.0 37.6, 126.9 37.5)))")),
+                null).write(path);
+        return path;
+    }
+
+    private static Region region(String id, String siDo, String guSi, String wkt) throws ParseException {
+        MultiPolygon geom = (MultiPolygon) new WKTReader(RegionSpatialIndex.geometryFactory()).read(wkt);
+        geom.setSRID(RegionSpatialIndex.SRID);
+        return Region.builder().id(id).sigCd(id).si_do(siDo).gu_si(guSi)
+                .geometry(new RegionGeometry(id, geom))
+                .build();
+    }
+}
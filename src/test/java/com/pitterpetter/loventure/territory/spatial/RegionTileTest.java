@@ -0,0 +1,353 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pitterpetter.loventure.territory.domain.coupleregion.UnlockBitset;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionGeometry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * RegionTile/MvtEncoder가 만든 타일을 vector_tile.proto 규칙대로 다시 읽어 검증
+ * - 테스트 안의 최소 protobuf 디코더로 레이어·속성·geometry 명령을 해석
+ */
+class RegionTileTest {
+
+    private static final int ZOOM = 14; // FULL 단계 (단순화 없음)
+    private static final int CMD_MOVE_TO = 1;
+    private static final int CMD_LINE_TO = 2;
+    private static final int CMD_CLOSE_PATH = 7;
+
+    private static final GeometryFactory FACTORY = RegionSpatialIndex.geometryFactory();
+
+    @Test
+    void layerCarriesRegionKeysValuesAndLockState() {
+        TileKey key = tileContaining(127.0, 37.5);
+        Envelope tile = key.envelope(0);
+        Region jongno = region("11110", "서울특별시", "종로구", squareWithHole(tile));
+        Region jung = region("11140", "서울특별시", "중구", multiPolygon(square(tile, 0.05, 0.2, false)));
+        RegionTile regionTile = RegionTile.build(key, RegionSpatialIndex.of(List.of(jung, jongno)));
+
+        // ordinal은 id 오름차순 → 종로구(0)만 해금
+        DecodedLayer layer = decodeTile(regionTile.encode(UnlockBitset.of(0)));
+
+        assertThat(layer.name()).isEqualTo(RegionTile.LAYER_NAME);
+        assertThat(layer.version()).isEqualTo(2);
+        assertThat(layer.extent()).isEqualTo(RegionTile.EXTENT);
+        assertThat(layer.keys()).containsExactly("id", "name", "city", "locked");
+        assertThat(layer.features()).hasSize(2);
+        assertThat(layer.features()).allSatisfy(feature -> assertThat(feature.type()).isEqualTo(3));
+
+        assertThat(layer.properties(layer.features().get(0))).containsExactly(
+                Map.entry("id", "11110"), Map.entry("name", "종로구"), Map.entry("city", "서울특별시"),
+                Map.entry("locked", false));
+        assertThat(layer.properties(layer.features().get(1))).containsExactly(
+                Map.entry("id", "11140"), Map.entry("name", "중구"), Map.entry("city", "서울특별시"),
+                Map.entry("locked", true));
+    }
+
+    @Test
+    void polygonWithHoleUsesMvtCommandsAndWinding() {
+        TileKey key = tileContaining(127.0, 37.5);
+        Envelope tile = key.envelope(0);
+        MultiPolygon geometry = squareWithHole(tile);
+
+        List<int[]> rings = decodeRings(MvtEncoder.polygonCommands(geometry, key, RegionTile.EXTENT));
+
+        assertThat(rings).hasSize(2);
+        // 타일 좌표(y 아래 방향) 기준 외곽 링은 양의 면적, 구멍은 음의 면적
+        assertThat(signedArea(rings.get(0))).isPositive();
+        assertThat(signedArea(rings.get(1))).isNegative();
+        Polygon polygon = (Polygon) geometry.getGeometryN(0);
+        assertThat(vertices(rings.get(0))).containsExactlyInAnyOrderElementsOf(
+                projected(polygon.getExteriorRing().getCoordinates(), key));
+        assertThat(vertices(rings.get(1))).containsExactlyInAnyOrderElementsOf(
+                projected(polygon.getInteriorRingN(0).getCoordinates(), key));
+    }
+
+    @Test
+    void emptyTileHasNoBytes() {
+        TileKey key = tileContaining(127.0, 37.5);
+        TileKey farAway = tileContaining(129.0, 35.0);
+        Region region = region("11110", "서울특별시", "종로구", squareWithHole(key.envelope(0)));
+
+        RegionTile regionTile = RegionTile.build(farAway, RegionSpatialIndex.of(List.of(region)));
+
+        assertThat(regionTile.featureCount()).isZero();
+        assertThat(regionTile.encode(UnlockBitset.empty())).isEmpty();
+    }
+
+    // ------------------------------------------------------------------------
+    // 테스트 데이터
+    // ------------------------------------------------------------------------
+
+    private static TileKey tileContaining(double lon, double lat) {
+        int n = 1 << ZOOM;
+        int x = (int) Math.floor((lon + 180.0) / 360.0 * n);
+        double rad = Math.toRadians(lat);
+        int y = (int) Math.floor((1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0 * n);
+        return new TileKey(ZOOM, x, y);
+    }
+
+    /**
+     * 타일 안쪽 [from, to] 비율 구간의 사각형 링 (경위도 기준 반시계 = JTS 외곽 링 방향)
+     */
+    private static LinearRing square(Envelope tile, double from, double to, boolean clockwise) {
+        double minX = tile.getMinX() + tile.getWidth() * from;
+        double maxX = tile.getMinX() + tile.getWidth() * to;
+        double minY = tile.getMinY() + tile.getHeight() * from;
+        double maxY = tile.getMinY() + tile.getHeight() * to;
+        Coordinate[] ring = {
+                new Coordinate(minX, minY), new Coordinate(maxX, minY), new Coordinate(maxX, maxY),
+                new Coordinate(minX, maxY), new Coordinate(minX, minY)};
+        if (clockwise) {
+            ring = new Coordinate[] {ring[0], ring[3], ring[2], ring[1], ring[4]};
+        }
+        return FACTORY.createLinearRing(ring);
+    }
+
+    private static MultiPolygon squareWithHole(Envelope tile) {
+        return FACTORY.createMultiPolygon(new Polygon[] {
+                FACTORY.createPolygon(square(tile, 0.25, 0.75, false), new LinearRing[] {square(tile, 0.4, 0.6, true)})});
+    }
+
+    private static MultiPolygon multiPolygon(LinearRing shell) {
+        return FACTORY.createMultiPolygon(new Polygon[] {FACTORY.createPolygon(shell)});
+    }
+
+    private static Region region(String id, String siDo, String guSi, MultiPolygon geom) {
+        geom.setSRID(RegionSpatialIndex.SRID);
+        return Region.builder().id(id).sigCd(id).si_do(siDo).gu_si(guSi)
+                .geometry(new RegionGeometry(id, geom))
+                .build();
+    }
+
+    private static List<List<Integer>> projected(Coordinate[] ring, TileKey key) {
+        List<List<Integer>> points = new ArrayList<>();
+        for (int i = 0; i < ring.length - 1; i++) {
+            points.add(List.of((int) Math.round(key.tileX(ring[i].x, RegionTile.EXTENT)),
+                    (int) Math.round(key.tileY(ring[i].y, RegionTile.EXTENT))));
+        }
+        return points;
+    }
+
+    private static List<List<Integer>> vertices(int[] xy) {
+        List<List<Integer>> points = new ArrayList<>();
+        for (int i = 0; i < xy.length; i += 2) {
+            points.add(List.of(xy[i], xy[i + 1]));
+        }
+        return points;
+    }
+
+    private static long signedArea(int[] xy) {
+        int count = xy.length / 2;
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            int j = (i + 1) % count;
+            sum += (long) xy[2 * i] * xy[2 * j + 1] - (long) xy[2 * j] * xy[2 * i + 1];
+        }
+        return sum;
+    }
+
+    // ------------------------------------------------------------------------
+    // 디코딩
+    // ------------------------------------------------------------------------
+
+    /**
+     * geometry 명령 → 링별 절대 좌표 (MoveTo 1 → LineTo n → ClosePath 1 순서를 검증)
+     */
+    private static List<int[]> decodeRings(int[] commands) {
+        List<int[]> rings = new ArrayList<>();
+        int cursorX = 0;
+        int cursorY = 0;
+        int i = 0;
+        while (i < commands.length) {
+            assertThat(commands[i] & 0x7).isEqualTo(CMD_MOVE_TO);
+            assertThat(commands[i++] >>> 3).isEqualTo(1);
+            cursorX += zigZagDecode(commands[i++]);
+            cursorY += zigZagDecode(commands[i++]);
+
+            assertThat(commands[i] & 0x7).isEqualTo(CMD_LINE_TO);
+            int lineCount = commands[i++] >>> 3;
+            assertThat(lineCount).isGreaterThanOrEqualTo(2);
+            int[] ring = new int[(lineCount + 1) * 2];
+            ring[0] = cursorX;
+            ring[1] = cursorY;
+            for (int p = 1; p <= lineCount; p++) {
+                cursorX += zigZagDecode(commands[i++]);
+                cursorY += zigZagDecode(commands[i++]);
+                ring[2 * p] = cursorX;
+                ring[2 * p + 1] = cursorY;
+            }
+
+            assertThat(commands[i]).isEqualTo(CMD_CLOSE_PATH | (1 << 3));
+            i++;
+            rings.add(ring);
+        }
+        return rings;
+    }
+
+    private static int zigZagDecode(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static DecodedLayer decodeTile(byte[] tile) {
+        ProtoReader reader = new ProtoReader(tile);
+        DecodedLayer layer = null;
+        while (reader.hasNext()) {
+            int tag = reader.tag();
+            if (tag >>> 3 == 3) {
+                assertThat(layer).as("레이어는 하나").isNull();
+                layer = decodeLayer(reader.bytes());
+            } else {
+                reader.skip(tag & 0x7);
+            }
+        }
+        assertThat(layer).isNotNull();
+        return layer;
+    }
+
+    private static DecodedLayer decodeLayer(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        String name = null;
+        int version = 1;
+        int extent = 4096;
+        List<String> keys = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        List<DecodedFeature> features = new ArrayList<>();
+        while (reader.hasNext()) {
+            int tag = reader.tag();
+            switch (tag >>> 3) {
+                case 1 -> name = reader.string();
+                case 2 -> features.add(decodeFeature(reader.bytes()));
+                case 3 -> keys.add(reader.string());
+                case 4 -> values.add(decodeValue(reader.bytes()));
+                case 5 -> extent = (int) reader.varint();
+                case 15 -> version = (int) reader.varint();
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return new DecodedLayer(name, version, extent, keys, values, features);
+    }
+
+    private static DecodedFeature decodeFeature(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        int[] tags = new int[0];
+        int type = 0;
+        int[] geometry = new int[0];
+        while (reader.hasNext()) {
+            int tag = reader.tag();
+            switch (tag >>> 3) {
+                case 2 -> tags = reader.packed();
+                case 3 -> type = (int) reader.varint();
+                case 4 -> geometry = reader.packed();
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return new DecodedFeature(tags, type, geometry);
+    }
+
+    private static Object decodeValue(byte[] bytes) {
+        ProtoReader reader = new ProtoReader(bytes);
+        Object value = null;
+        while (reader.hasNext()) {
+            int tag = reader.tag();
+            switch (tag >>> 3) {
+                case 1 -> value = reader.string();
+                case 7 -> value = reader.varint() != 0;
+                default -> reader.skip(tag & 0x7);
+            }
+        }
+        return value;
+    }
+
+    private record DecodedFeature(int[] tags, int type, int[] geometry) {
+    }
+
+    private record DecodedLayer(String name, int version, int extent, List<String> keys, List<Object> values,
+                                List<DecodedFeature> features) {
+
+        Map<String, Object> properties(DecodedFeature feature) {
+            assertThat(feature.tags().length % 2).isZero();
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (int i = 0; i < feature.tags().length; i += 2) {
+                properties.put(keys.get(feature.tags()[i]), values.get(feature.tags()[i + 1]));
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * 최소 protobuf 읽기 (varint, length-delimited, packed uint32)
+     */
+    private static final class ProtoReader {
+
+        private final byte[] bytes;
+        private int position;
+
+        ProtoReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        boolean hasNext() {
+            return position < bytes.length;
+        }
+
+        int tag() {
+            return (int) varint();
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        byte[] bytes() {
+            int length = (int) varint();
+            byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return value;
+        }
+
+        String string() {
+            return new String(bytes(), StandardCharsets.UTF_8);
+        }
+
+        int[] packed() {
+            ProtoReader packed = new ProtoReader(bytes());
+            List<Integer> values = new ArrayList<>();
+            while (packed.hasNext()) {
+                values.add((int) packed.varint());
+            }
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        void skip(int wireType) {
+            switch (wireType) {
+                case 0 -> varint();
+                case 1 -> position += 8;
+                case 2 -> bytes();
+                case 5 -> position += 4;
+                default -> throw new IllegalStateException("지원하지 않는 wire type: " + wireType);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.pitterpetter.loventure.territory.spatial;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+class SimplificationLevelTest {
+
+    private static final GeometryFactory FACTORY = RegionSpatialIndex.geometryFactory();
+
+    @Test
+    void neighbouringRegionsKeepASharedBoundaryAfterSimplification() {
+        // 잔물결 모양 경계(x ≈ 127.05)를 공유하는 두 구역
+        List<Coordinate> border = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            double y = 37.0 + i * 0.001;
+            double x = 127.05 + (i % 2 == 0 ? 0.0003 : -0.0003);
+            border.add(new Coordinate(x, y));
+        }
+        Geometry west = polygon(border, 127.0);
+        Geometry east = polygon(border, 127.1);
+
+        for (SimplificationLevel level : SimplificationLevel.values()) {
+            Geometry[] simplified = level.simplifyCoverage(List.of(west, east));
+
+            assertThat(simplified[0].intersection(simplified[1]).getArea()).as("겹침 (%s)", level)
+                    .isCloseTo(0.0, within(1e-12));
+            Geometry union = simplified[0].union(simplified[1]);
+            assertThat(union.getNumGeometries()).as("틈 (%s)", level).isEqualTo(1);
+            assertThat(union.getArea()).as("면적 (%s)", level)
+                    .isCloseTo(simplified[0].getArea() + simplified[1].getArea(), within(1e-12));
+        }
+    }
+
+    @Test
+    void missingGeometriesArePassedThrough() {
+        Geometry square = FACTORY.toGeometry(new Envelope(127.0, 127.1, 37.0, 37.1));
+
+        Geometry[] simplified = SimplificationLevel.LOW.simplifyCoverage(Arrays.asList(null, square));
+
+        assertThat(simplified[0]).isNull();
+        assertThat(simplified[1].getArea()).isCloseTo(square.getArea(), within(1e-9));
+    }
+
+    /**
+     * 공유 경계와 x = outerX 세로선으로 둘러싼 구역
+     */
+    private static Geometry polygon(List<Coordinate> border, double outerX) {
+        List<Coordinate> ring = new ArrayList<>(border);
+        Coordinate top = border.get(border.size() - 1);
+        Coordinate bottom = border.get(0);
+        ring.add(new Coordinate(outerX, top.y));
+        ring.add(new Coordinate(outerX, bottom.y));
+        ring.add(new Coordinate(bottom));
+        return FACTORY.createPolygon(ring.toArray(Coordinate[]::new));
+    }
+}
@@ -0,0 +1,63 @@
+package com.pitterpetter.loventure.territory.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pitterpetter.loventure.territory.domain.region.Region;
+import com.pitterpetter.loventure.territory.domain.region.RegionGeometry;
+import com.pitterpetter.loventure.territory.spatial.RegionSpatialIndex;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+class GeoJsonUtilsTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void roundedRingStaysClosedWhenItsLastVerticesCollapse() throws Exception {
+        // 마지막 두 꼭짓점이 반올림 후 시작점과 같아지는 링
+        JsonNode polygons = coordinates(
+                "MULTIPOLYGON(((127.0 37.0, 127.1 37.0, 127.1 37.1, 127.0 37.1, 127.0004 37.0004, 127.0 37.0)))", 3);
+
+        JsonNode shell = polygons.get(0).get(0);
+        assertThat(shell.size()).isGreaterThanOrEqualTo(4);
+        assertThat(shell.get(shell.size() - 1)).isEqualTo(shell.get(0));
+        for (int i = 1; i < shell.size(); i++) {
+            assertThat(shell.get(i)).isNotEqualTo(shell.get(i - 1));
+        }
+    }
+
+    @Test
+    void ringsCollapsedByRoundingAreDropped() throws Exception {
+        // 두 번째 Polygon과 구멍은 소수점 3자리에서 한 점으로 줄어듦
+        JsonNode polygons = coordinates("MULTIPOLYGON("
+                + "((127.0 37.0, 127.1 37.0, 127.1 37.1, 127.0 37.1, 127.0 37.0),"
+                + " (127.05 37.05, 127.0501 37.05, 127.0501 37.0501, 127.05 37.05)),"
+                + "((128.0 36.0, 128.0001 36.0, 128.0001 36.0001, 128.0 36.0)))", 3);
+
+        assertThat(polygons.size()).isEqualTo(1);
+        assertThat(polygons.get(0).size()).isEqualTo(1);
+    }
+
+    @Test
+    void originalPrecisionKeepsEveryPosition() throws Exception {
+        JsonNode polygons = coordinates(
+                "MULTIPOLYGON(((127.0 37.0, 127.1 37.0, 127.1 37.1, 127.0 37.1, 127.0004 37.0004, 127.0 37.0)))", -1);
+
+        assertThat(polygons.get(0).get(0).size()).isEqualTo(6);
+    }
+
+    private static JsonNode coordinates(String wkt, int decimals) throws ParseException, IOException {
+        MultiPolygon geom = (MultiPolygon) new WKTReader(RegionSpatialIndex.geometryFactory()).read(wkt);
+        Region region = Region.builder().id("11110").sigCd("11110").si_do("서울특별시").gu_si("종로구")
+                .geometry(new RegionGeometry("11110", geom))
+                .build();
+        JsonNode feature = OBJECT_MAPPER.readTree(GeoJsonUtils.toFeatureBytes(region, geom, decimals));
+        assertThat(feature.path("geometry").path("type").asText()).isEqualTo("MultiPolygon");
+        return feature.path("geometry").path("coordinates");
+    }
+}